@@ -3,7 +3,12 @@ package com.paytm.jiradashboard.controller;
 import com.paytm.jiradashboard.model.*;
 import com.paytm.jiradashboard.repository.*;
 import com.paytm.jiradashboard.service.CapacityPlanningService;
+import com.paytm.jiradashboard.service.CapacitySchedulingService;
+import com.paytm.jiradashboard.service.CapacitySimulationService;
+import com.paytm.jiradashboard.service.DeliveryForecastService;
 import com.paytm.jiradashboard.service.JiraApiService;
+import com.paytm.jiradashboard.service.WorkingCalendar;
+import com.paytm.jiradashboard.service.WorkingCalendarService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -22,10 +27,16 @@ import java.util.Optional;
 @Slf4j
 public class CapacityController {
     
+    private static final int MAX_DAYS_AHEAD = 90;
+    
     private final CapacityPlanningService capacityPlanningService;
+    private final CapacitySimulationService capacitySimulationService;
+    private final CapacitySchedulingService capacitySchedulingService;
+    private final DeliveryForecastService deliveryForecastService;
     private final TeamMemberRepository teamMemberRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
     private final JiraApiService jiraApiService;
+    private final WorkingCalendarService workingCalendarService;
     
     @GetMapping("/team-summary")
     public ResponseEntity<List<CapacityPlanningService.TeamCapacitySummary>> getTeamCapacitySummary() {
@@ -42,8 +53,9 @@ public class CapacityController {
     public ResponseEntity<List<CapacityPlanningService.ResourceAvailability>> getResourceAvailability(
             @RequestParam(defaultValue = "30") int daysAhead) {
         try {
+            // Each horizon is cached per member, so keep requests to a bounded range
             List<CapacityPlanningService.ResourceAvailability> availability = 
-                capacityPlanningService.getResourceAvailabilityForecast(daysAhead);
+                capacityPlanningService.getResourceAvailabilityForecast(Math.max(1, Math.min(daysAhead, MAX_DAYS_AHEAD)));
             return ResponseEntity.ok(availability);
         } catch (Exception e) {
             log.error("Error getting resource availability", e);
@@ -65,7 +77,7 @@ public class CapacityController {
     @PostMapping("/team-members")
     public ResponseEntity<TeamMember> createTeamMember(@RequestBody TeamMember teamMember) {
         try {
-            TeamMember saved = teamMemberRepository.save(teamMember);
+            TeamMember saved = capacityPlanningService.saveTeamMember(teamMember);
             return ResponseEntity.ok(saved);
         } catch (Exception e) {
             log.error("Error creating team member", e);
@@ -79,7 +91,7 @@ public class CapacityController {
             Optional<TeamMember> existing = teamMemberRepository.findById(id);
             if (existing.isPresent()) {
                 teamMember.setId(id);
-                TeamMember updated = teamMemberRepository.save(teamMember);
+                TeamMember updated = capacityPlanningService.saveTeamMember(teamMember);
                 return ResponseEntity.ok(updated);
             } else {
                 return ResponseEntity.notFound().build();
@@ -115,7 +127,7 @@ public class CapacityController {
     @PostMapping("/assignments")
     public ResponseEntity<TaskAssignment> createAssignment(@RequestBody TaskAssignment assignment) {
         try {
-            TaskAssignment saved = taskAssignmentRepository.save(assignment);
+            TaskAssignment saved = capacityPlanningService.saveAssignment(assignment);
             return ResponseEntity.ok(saved);
         } catch (Exception e) {
             log.error("Error creating assignment", e);
@@ -129,7 +141,7 @@ public class CapacityController {
             Optional<TaskAssignment> existing = taskAssignmentRepository.findById(id);
             if (existing.isPresent()) {
                 assignment.setId(id);
-                TaskAssignment updated = taskAssignmentRepository.save(assignment);
+                TaskAssignment updated = capacityPlanningService.saveAssignment(assignment);
                 return ResponseEntity.ok(updated);
             } else {
                 return ResponseEntity.notFound().build();
@@ -194,14 +206,152 @@ public class CapacityController {
         }
     }
     
+    @GetMapping("/leave/{memberName}")
+    public ResponseEntity<List<MemberLeave>> getMemberLeave(@PathVariable String memberName) {
+        try {
+            return ResponseEntity.ok(workingCalendarService.getLeave(memberName));
+        } catch (Exception e) {
+            log.error("Error getting leave for: " + memberName, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    @PostMapping("/leave")
+    public ResponseEntity<MemberLeave> createMemberLeave(@RequestBody MemberLeave leave) {
+        try {
+            return ResponseEntity.ok(workingCalendarService.saveLeave(leave));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error creating leave", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    @DeleteMapping("/leave/{id}")
+    public ResponseEntity<Void> deleteMemberLeave(@PathVariable Long id) {
+        try {
+            workingCalendarService.deleteLeave(id);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Error deleting leave: " + id, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    @GetMapping("/working-days/{memberName}")
+    public ResponseEntity<Map<String, Object>> getWorkingDays(
+            @PathVariable String memberName,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        try {
+            Optional<TeamMember> member = teamMemberRepository.findByName(memberName);
+            if (member.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            LocalDate start = LocalDate.parse(startDate);
+            LocalDate end = LocalDate.parse(endDate);
+            WorkingCalendar calendar = workingCalendarService.calendarFor(member.get());
+            double dailyCapacity = member.get().getHoursPerDay() * member.get().getCapacityMultiplier();
+            
+            return ResponseEntity.ok(Map.of(
+                "memberName", memberName,
+                "startDate", startDate,
+                "endDate", endDate,
+                "calendarDays", Math.max(0, ChronoUnit.DAYS.between(start, end) + 1),
+                "workingDays", calendar.countWorkingDays(start, end),
+                "capacityHours", calendar.capacityHours(start, end, dailyCapacity)
+            ));
+        } catch (Exception e) {
+            log.error("Error getting working days for: " + memberName, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * What-if: apply hypothetical moves or date changes in memory and return the before/after
+     * forecasts of every affected member; nothing is saved
+     */
+    @PostMapping("/simulate")
+    public ResponseEntity<CapacitySimulationService.SimulationResult> simulate(
+            @RequestBody CapacitySimulationService.SimulationRequest request) {
+        try {
+            return ResponseEntity.ok(capacitySimulationService.simulate(request));
+        } catch (Exception e) {
+            log.error("Error simulating capacity changes", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Planned start and end dates with each member's tasks queued by priority and due date
+     * against their daily capacity; read-only
+     */
+    @GetMapping("/schedule")
+    public ResponseEntity<List<CapacitySchedulingService.ScheduledTask>> getSchedule(
+            @RequestParam(required = false) String assignee) {
+        try {
+            return ResponseEntity.ok(capacitySchedulingService.plan(assignee));
+        } catch (Exception e) {
+            log.error("Error planning schedule", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Write the planned start and end dates to the scheduled assignments
+     */
+    @PostMapping("/schedule/apply")
+    public ResponseEntity<List<CapacitySchedulingService.ScheduledTask>> applySchedule(
+            @RequestParam(required = false) String assignee) {
+        try {
+            return ResponseEntity.ok(capacitySchedulingService.apply(assignee));
+        } catch (Exception e) {
+            log.error("Error applying schedule", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * P50/P85/P95 completion dates for the member's active assignments
+     */
+    @GetMapping("/forecast/member/{memberName}")
+    public ResponseEntity<DeliveryForecastService.ForecastResult> forecastMember(
+            @PathVariable String memberName,
+            @RequestParam(required = false) Integer trials,
+            @RequestParam(required = false) Long seed) {
+        try {
+            return ResponseEntity.of(deliveryForecastService.forecastMember(memberName, trials, seed));
+        } catch (Exception e) {
+            log.error("Error forecasting delivery for: " + memberName, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * P50/P85/P95 completion dates for the epic's unresolved issues
+     */
+    @GetMapping("/forecast/epic/{epicKey}")
+    public ResponseEntity<DeliveryForecastService.ForecastResult> forecastEpic(
+            @PathVariable String epicKey,
+            @RequestParam(required = false) Integer trials,
+            @RequestParam(required = false) Long seed) {
+        try {
+            return ResponseEntity.of(deliveryForecastService.forecastEpic(epicKey, trials, seed));
+        } catch (Exception e) {
+            log.error("Error forecasting delivery for epic: " + epicKey, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     @GetMapping("/team-stats")
     public ResponseEntity<Map<String, Object>> getTeamStats() {
         try {
             long totalMembers = teamMemberRepository.count();
-            long activeMembers = teamMemberRepository.findByIsActiveTrue().size();
+            long activeMembers = teamMemberRepository.countByIsActiveTrue();
             long totalAssignments = taskAssignmentRepository.count();
-            long overdueCount = taskAssignmentRepository.findOverdueTasksByDate(LocalDate.now()).size();
-            long blockedCount = taskAssignmentRepository.findByIsBlockedTrue().size();
+            long overdueCount = taskAssignmentRepository.countOverdueTasksByDate(LocalDate.now());
+            long blockedCount = taskAssignmentRepository.countByIsBlockedTrue();
             
             return ResponseEntity.ok(Map.of(
                 "totalMembers", totalMembers,
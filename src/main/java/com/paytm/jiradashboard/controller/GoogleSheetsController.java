@@ -1,17 +1,20 @@
 package com.paytm.jiradashboard.controller;
 
+import com.paytm.jiradashboard.service.CsvExportWriter;
+import com.paytm.jiradashboard.service.GoogleSheetsExportService;
 import com.paytm.jiradashboard.service.GoogleSheetsIntegrationService;
+import com.paytm.jiradashboard.service.XlsxStreamWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.ArrayList;
 
 @RestController
 @RequestMapping("/api/sheets")
@@ -76,27 +79,36 @@ public class GoogleSheetsController {
     }
 
     @GetMapping("/export-capacity-csv")
-    public ResponseEntity<String> exportCapacityDataAsCsv(
+    public ResponseEntity<StreamingResponseBody> exportCapacityDataAsCsv(
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate) {
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "false") boolean gzip) {
         try {
-            List<List<Object>> data;
-            if (startDate != null && endDate != null) {
-                LocalDate start = LocalDate.parse(startDate);
-                LocalDate end = LocalDate.parse(endDate);
-                data = sheetsService.exportCapacityDataByDateRange(start, end);
-            } else {
-                data = sheetsService.exportCapacityData();
-            }
-            String csvContent = convertToCsv(data);
+            LocalDate start = startDate != null && endDate != null ? LocalDate.parse(startDate) : null;
+            LocalDate end = startDate != null && endDate != null ? LocalDate.parse(endDate) : null;
+            
+            // Generate before the response is committed so failures still return an error status;
+            // only the row rendering is streamed
+            GoogleSheetsExportService.CapacityTrackingSheet sheet = sheetsService.generateCapacitySheet(start, end);
+            StreamingResponseBody body = out -> {
+                try (CsvExportWriter csv = CsvExportWriter.open(out, gzip)) {
+                    sheetsService.writeCapacityData(sheet, csv::writeRowUnchecked);
+                } catch (Exception e) {
+                    log.error("Error streaming capacity data as CSV", e);
+                    throw e;
+                }
+            };
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.TEXT_PLAIN);
             headers.set("Content-Disposition", "attachment; filename=capacity-tracker.csv");
+            if (gzip) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
             
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(csvContent);
+                    .body(body);
                     
         } catch (Exception e) {
             log.error("Error exporting capacity data as CSV", e);
@@ -104,37 +116,53 @@ public class GoogleSheetsController {
         }
     }
 
+    @GetMapping("/export-capacity-xlsx")
+    public ResponseEntity<StreamingResponseBody> exportCapacityDataAsXlsx(
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+        try {
+            LocalDate start = startDate != null && endDate != null ? LocalDate.parse(startDate) : null;
+            LocalDate end = startDate != null && endDate != null ? LocalDate.parse(endDate) : null;
+            
+            // Generate before the response is committed; a failure inside the stream would still
+            // close the zip and hand the client a valid but truncated workbook
+            GoogleSheetsExportService.CapacityTrackingSheet sheet = sheetsService.generateCapacitySheet(start, end);
+            StreamingResponseBody body = out -> {
+                try (XlsxStreamWriter xlsx = XlsxStreamWriter.open(out)) {
+                    xlsx.startSheet("Capacity Tracker", true);
+                    sheetsService.writeCapacityData(sheet, xlsx::writeRowUnchecked);
+                } catch (Exception e) {
+                    log.error("Error streaming capacity data as XLSX", e);
+                    throw e;
+                }
+            };
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(XlsxStreamWriter.CONTENT_TYPE));
+            headers.set("Content-Disposition", "attachment; filename=capacity-tracker.xlsx");
+            
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(body);
+                    
+        } catch (Exception e) {
+            log.error("Error exporting capacity data as XLSX", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/preview-capacity-data")
     public ResponseEntity<Map<String, Object>> previewCapacityData(
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate) {
         try {
-            List<List<Object>> data;
-            Map<String, Object> summary;
-            
-            if (startDate != null && endDate != null) {
-                LocalDate start = LocalDate.parse(startDate);
-                LocalDate end = LocalDate.parse(endDate);
-                data = sheetsService.exportCapacityDataByDateRange(start, end);
-                summary = sheetsService.getSheetSummaryByDateRange(start, end);
-            } else {
-                data = sheetsService.exportCapacityData();
-                summary = sheetsService.getSheetSummary();
-            }
+            LocalDate start = startDate != null && endDate != null ? LocalDate.parse(startDate) : null;
+            LocalDate end = startDate != null && endDate != null ? LocalDate.parse(endDate) : null;
             
             // Return first 100 rows for preview
-            List<List<Object>> preview = data.stream()
-                    .limit(100)
-                    .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-            
-            Map<String, Object> response = Map.of(
-                    "summary", summary,
-                    "preview", preview,
-                    "totalRows", data.size(),
-                    "previewRows", preview.size(),
-                    "dateRange", startDate != null && endDate != null ? 
-                        Map.of("startDate", startDate, "endDate", endDate) : "All data"
-            );
+            Map<String, Object> response = sheetsService.previewCapacityData(start, end, 100);
+            response.put("dateRange", start != null ?
+                    Map.of("startDate", startDate, "endDate", endDate) : "All data");
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -145,29 +173,4 @@ public class GoogleSheetsController {
             ));
         }
     }
-
-    private String convertToCsv(List<List<Object>> data) {
-        StringBuilder csv = new StringBuilder();
-        
-        for (List<Object> row : data) {
-            StringBuilder rowBuilder = new StringBuilder();
-            for (int i = 0; i < row.size(); i++) {
-                if (i > 0) {
-                    rowBuilder.append(",");
-                }
-                
-                String value = row.get(i) != null ? row.get(i).toString() : "";
-                
-                // Escape quotes and wrap in quotes if contains comma or quote
-                if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-                    value = "\"" + value.replace("\"", "\"\"") + "\"";
-                }
-                
-                rowBuilder.append(value);
-            }
-            csv.append(rowBuilder.toString()).append("\n");
-        }
-        
-        return csv.toString();
-    }
 } 
\ No newline at end of file
@@ -1,16 +1,27 @@
 package com.paytm.jiradashboard.controller;
 
+import com.paytm.jiradashboard.service.CsvExportWriter;
+import com.paytm.jiradashboard.service.LabelCatalogService;
 import com.paytm.jiradashboard.service.SingleSnapshotService;
+import com.paytm.jiradashboard.service.SnapshotBatchService;
+import com.paytm.jiradashboard.service.SnapshotHistoryService;
+import com.paytm.jiradashboard.service.SnapshotJobService;
+import com.paytm.jiradashboard.service.SnapshotLabelModel;
+import com.paytm.jiradashboard.service.XlsxStreamWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/single-snapshot")
@@ -19,6 +30,10 @@ import java.util.stream.Collectors;
 public class SingleSnapshotController {
 
     private final SingleSnapshotService snapshotService;
+    private final SnapshotJobService snapshotJobService;
+    private final LabelCatalogService labelCatalogService;
+    private final SnapshotHistoryService snapshotHistoryService;
+    private final SnapshotBatchService snapshotBatchService;
 
     /**
      * Get available labels for selection
@@ -42,6 +57,24 @@ public class SingleSnapshotController {
         }
     }
 
+    /**
+     * Prefix search over the label catalog, with issue and per-status counts
+     */
+    @GetMapping("/labels/search")
+    public ResponseEntity<Map<String, Object>> searchLabels(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<LabelCatalogService.LabelEntry> matches = labelCatalogService.search(prefix, Math.max(1, Math.min(limit, 1000)));
+        
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "prefix", prefix,
+                "labels", matches,
+                "totalMatches", matches.size(),
+                "totalLabels", labelCatalogService.size()
+        ));
+    }
+
     /**
      * Generate Single Snapshot for selected labels (start and end dates are now mandatory)
      */
@@ -110,6 +143,7 @@ public class SingleSnapshotController {
                     "status", "success",
                     "message", "Single Snapshot generated successfully",
                     "snapshot", snapshotInfo,
+                    "version", snapshot.getVersion(),
                     "data", sheetsData
             ));
         } catch (Exception e) {
@@ -207,35 +241,38 @@ public class SingleSnapshotController {
      * Export Single Snapshot as CSV
      */
     @PostMapping("/export-csv")
-    public ResponseEntity<String> exportSingleSnapshotAsCsv(
-            @RequestBody Map<String, Object> request) {
+    public ResponseEntity<StreamingResponseBody> exportSingleSnapshotAsCsv(
+            @RequestBody Map<String, Object> request,
+            @RequestParam(defaultValue = "false") boolean gzip) {
         try {
             @SuppressWarnings("unchecked")
             List<String> selectedLabels = (List<String>) request.getOrDefault("labels", new ArrayList<>());
             String startDateStr = (String) request.get("startDate");
             String endDateStr = (String) request.get("endDate");
             
-            SingleSnapshotService.SingleSnapshotSheet snapshot;
-            if (startDateStr != null && endDateStr != null) {
-                LocalDate startDate = LocalDate.parse(startDateStr);
-                LocalDate endDate = LocalDate.parse(endDateStr);
-                snapshot = snapshotService.generateSingleSnapshotByDateRange(selectedLabels, startDate, endDate);
-            } else {
-                snapshot = snapshotService.generateSingleSnapshot(selectedLabels);
-            }
-            
-            // Use horizontal layout for CSV export (Google Sheets style)
-            List<List<Object>> horizontalData = snapshotService.convertToHorizontalLayout(snapshot);
-            String csvContent = convertToCsv(horizontalData);
+            // Generate before the response is committed so failures still return an error status;
+            // only the horizontal layout (Google Sheets style) is written row by row
+            SingleSnapshotService.SingleSnapshotSheet snapshot = generateForExport(selectedLabels, startDateStr, endDateStr);
+            StreamingResponseBody body = out -> {
+                try (CsvExportWriter csv = CsvExportWriter.open(out, gzip)) {
+                    snapshotService.writeHorizontalLayout(snapshot, csv::writeRowUnchecked);
+                } catch (Exception e) {
+                    log.error("Error streaming Single Snapshot as CSV", e);
+                    throw e;
+                }
+            };
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.TEXT_PLAIN);
             headers.set("Content-Disposition", "attachment; filename=single-snapshot-" + 
                     snapshot.getGeneratedDate() + ".csv");
+            if (gzip) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
             
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(csvContent);
+                    .body(body);
                     
         } catch (Exception e) {
             log.error("Error exporting Single Snapshot as CSV", e);
@@ -243,6 +280,59 @@ public class SingleSnapshotController {
         }
     }
 
+    /**
+     * Snapshot for an export request; without a date range the last 30 days are used
+     */
+    private SingleSnapshotService.SingleSnapshotSheet generateForExport(List<String> selectedLabels,
+                                                                      String startDateStr, String endDateStr) {
+        if (startDateStr != null && endDateStr != null) {
+            return snapshotService.generateSingleSnapshotByDateRange(selectedLabels,
+                    LocalDate.parse(startDateStr), LocalDate.parse(endDateStr));
+        }
+        LocalDate endDate = LocalDate.now();
+        return snapshotService.generateSingleSnapshotByDateRange(selectedLabels, endDate.minusDays(30), endDate);
+    }
+
+    /**
+     * Export Single Snapshot as an XLSX workbook (horizontal layout)
+     */
+    @PostMapping("/export-xlsx")
+    public ResponseEntity<StreamingResponseBody> exportSingleSnapshotAsXlsx(
+            @RequestBody Map<String, Object> request) {
+        try {
+            @SuppressWarnings("unchecked")
+            List<String> selectedLabels = (List<String>) request.getOrDefault("labels", new ArrayList<>());
+            String startDateStr = (String) request.get("startDate");
+            String endDateStr = (String) request.get("endDate");
+            
+            // Generate before the response is committed; a failure inside the stream would still
+            // close the zip and hand the client a valid but truncated workbook
+            SingleSnapshotService.SingleSnapshotSheet snapshot = generateForExport(selectedLabels, startDateStr, endDateStr);
+            StreamingResponseBody body = out -> {
+                try (XlsxStreamWriter xlsx = XlsxStreamWriter.open(out)) {
+                    xlsx.startSheet("Single Snapshot", false);
+                    snapshotService.writeHorizontalLayout(snapshot, xlsx::writeRowUnchecked);
+                } catch (Exception e) {
+                    log.error("Error streaming Single Snapshot as XLSX", e);
+                    throw e;
+                }
+            };
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(XlsxStreamWriter.CONTENT_TYPE));
+            headers.set("Content-Disposition", "attachment; filename=single-snapshot-" + 
+                    snapshot.getGeneratedDate() + ".xlsx");
+            
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(body);
+                    
+        } catch (Exception e) {
+            log.error("Error exporting Single Snapshot as XLSX", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * Get Single Snapshot summary statistics
      */
@@ -264,17 +354,13 @@ public class SingleSnapshotController {
                 snapshot = snapshotService.generateSingleSnapshot(selectedLabels);
             }
             
-            // Calculate statistics
-            Map<String, Long> statusCounts = snapshot.getPodData().values().stream()
-                    .flatMap(List::stream)
-                    .collect(java.util.stream.Collectors.groupingBy(
-                            SingleSnapshotService.PodTaskRow::getStatus,
-                            java.util.stream.Collectors.counting()));
+            // Calculate statistics from the per-label models
+            Map<String, Long> statusCounts = snapshotService.getStatusBreakdown(snapshot);
             
-            Map<String, Long> podCounts = snapshot.getPodData().entrySet().stream()
-                    .collect(java.util.stream.Collectors.toMap(
-                            Map.Entry::getKey,
-                            entry -> (long) entry.getValue().size()));
+            Map<String, Long> podCounts = new HashMap<>();
+            for (SnapshotLabelModel model : snapshotService.getLabelModels(snapshot)) {
+                podCounts.put(model.getLabel(), (long) model.getTaskCount());
+            }
             
             return ResponseEntity.ok(Map.of(
                     "status", "success",
@@ -298,34 +384,6 @@ public class SingleSnapshotController {
         }
     }
 
-    /**
-     * Convert data to CSV format
-     */
-    private String convertToCsv(List<List<Object>> data) {
-        StringBuilder csv = new StringBuilder();
-        
-        for (List<Object> row : data) {
-            StringBuilder rowBuilder = new StringBuilder();
-            for (int i = 0; i < row.size(); i++) {
-                if (i > 0) {
-                    rowBuilder.append(",");
-                }
-                
-                String value = row.get(i) != null ? row.get(i).toString() : "";
-                
-                // Escape quotes and wrap in quotes if contains comma or quote
-                if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-                    value = "\"" + value.replace("\"", "\"\"") + "\"";
-                }
-                
-                rowBuilder.append(value);
-            }
-            csv.append(rowBuilder.toString()).append("\n");
-        }
-        
-        return csv.toString();
-    }
-
     /**
      * Debug endpoint to check team resources for a specific label
      */
@@ -353,26 +411,18 @@ public class SingleSnapshotController {
             
             Map<String, Object> debugInfo = new LinkedHashMap<>();
             
-            for (Map.Entry<String, List<SingleSnapshotService.PodTaskRow>> entry : snapshot.getPodData().entrySet()) {
-                String label = entry.getKey();
-                List<SingleSnapshotService.PodTaskRow> tasks = entry.getValue();
-                
+            for (SnapshotLabelModel model : snapshotService.getLabelModels(snapshot)) {
                 // Get all assignees
-                List<String> allAssignees = tasks.stream()
-                        .map(SingleSnapshotService.PodTaskRow::getAssignee)
-                        .collect(Collectors.toList());
-                
-                // Get unique assignees
-                Set<String> uniqueAssignees = tasks.stream()
-                        .map(SingleSnapshotService.PodTaskRow::getAssignee)
-                        .filter(assignee -> assignee != null && !assignee.trim().isEmpty() && !assignee.equals("Unassigned"))
-                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                List<String> allAssignees = new ArrayList<>(model.getTaskCount());
+                for (int i = 0; i < model.getTaskCount(); i++) {
+                    allAssignees.add(model.getTask(i).getAssignee());
+                }
                 
-                debugInfo.put(label, Map.of(
-                        "totalTasks", tasks.size(),
+                debugInfo.put(model.getLabel(), Map.of(
+                        "totalTasks", model.getTaskCount(),
                         "allAssignees", allAssignees,
-                        "uniqueAssignees", new ArrayList<>(uniqueAssignees),
-                        "uniqueCount", uniqueAssignees.size()
+                        "uniqueAssignees", model.getResources(),
+                        "uniqueCount", model.getResourceCount()
                 ));
             }
             
@@ -389,4 +439,336 @@ public class SingleSnapshotController {
             ));
         }
     }
+
+    /**
+     * List stored snapshot versions, newest first
+     */
+    @GetMapping("/history")
+    public ResponseEntity<Map<String, Object>> getSnapshotHistory() {
+        List<Map<String, Object>> history = snapshotHistoryService.list();
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "versions", history,
+                "totalVersions", history.size()
+        ));
+    }
+
+    /**
+     * Compare two stored snapshot versions: added, removed and status-changed tasks per label
+     */
+    @GetMapping("/diff")
+    public ResponseEntity<Map<String, Object>> diffSnapshots(@RequestParam long from, @RequestParam long to) {
+        Optional<SnapshotHistoryService.StoredSnapshot> fromSnapshot = snapshotHistoryService.get(from);
+        Optional<SnapshotHistoryService.StoredSnapshot> toSnapshot = snapshotHistoryService.get(to);
+        if (fromSnapshot.isEmpty() || toSnapshot.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                    "status", "error",
+                    "message", "Snapshot version not found: " + (fromSnapshot.isEmpty() ? from : to)
+            ));
+        }
+        Optional<String> incompatibility = snapshotHistoryService.incompatibility(fromSnapshot.get(), toSnapshot.get());
+        if (incompatibility.isPresent()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", incompatibility.get()
+            ));
+        }
+        
+        Map<String, SnapshotHistoryService.LabelDiff> labels = snapshotHistoryService.diff(fromSnapshot.get(), toSnapshot.get());
+        int added = 0;
+        int removed = 0;
+        int statusChanged = 0;
+        for (SnapshotHistoryService.LabelDiff diff : labels.values()) {
+            added += diff.getAdded().size();
+            removed += diff.getRemoved().size();
+            statusChanged += diff.getStatusChanged().size();
+        }
+        
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "from", Map.of("version", from, "createdAt", fromSnapshot.get().getCreatedAt().toString(), "dateRange", fromSnapshot.get().getDateRange()),
+                "to", Map.of("version", to, "createdAt", toSnapshot.get().getCreatedAt().toString(), "dateRange", toSnapshot.get().getDateRange()),
+                "summary", Map.of("added", added, "removed", removed, "statusChanged", statusChanged),
+                "labels", labels
+        ));
+    }
+
+    /**
+     * Generate snapshots for several named label groups from one Jira fetch. Groups default to
+     * the configured app.snapshot-batch.groups and dates to the configured lookback window;
+     * results are reused for the rest of the day unless refresh is set.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> generateSnapshotBatch(
+            @RequestBody(required = false) Map<String, Object> request) {
+        try {
+            SnapshotBatchService.BatchResult result = runBatch(request != null ? request : Map.of());
+            Map<String, Object> response = new LinkedHashMap<>(result.toSummaryMap());
+            response.put("status", "success");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error generating Single Snapshot batch", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "status", "error",
+                    "message", "Failed to generate snapshot batch: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Result of the most recent scheduled batch run
+     */
+    @GetMapping("/batch/latest")
+    public ResponseEntity<Map<String, Object>> getLatestSnapshotBatch() {
+        Optional<SnapshotBatchService.BatchResult> latest = snapshotBatchService.getLatestScheduled();
+        if (latest.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                    "status", "error",
+                    "message", "No scheduled snapshot batch has run yet"
+            ));
+        }
+        Map<String, Object> response = new LinkedHashMap<>(latest.get().toSummaryMap());
+        response.put("status", "success");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Export a snapshot batch as one XLSX workbook with a tab per group
+     */
+    @PostMapping("/batch/export-xlsx")
+    public ResponseEntity<StreamingResponseBody> exportSnapshotBatchAsXlsx(
+            @RequestBody(required = false) Map<String, Object> request) {
+        try {
+            // Run the batch before the response is committed so a failure is a 500, not a truncated workbook
+            SnapshotBatchService.BatchResult result = runBatch(request != null ? request : Map.of());
+            StreamingResponseBody body = out -> {
+                try (XlsxStreamWriter xlsx = XlsxStreamWriter.open(out)) {
+                    for (Map.Entry<String, SingleSnapshotService.SingleSnapshotSheet> group : result.getSnapshots().entrySet()) {
+                        xlsx.startSheet(group.getKey(), false);
+                        snapshotService.writeHorizontalLayout(group.getValue(), xlsx::writeRowUnchecked);
+                    }
+                } catch (Exception e) {
+                    log.error("Error streaming Single Snapshot batch as XLSX", e);
+                    throw e;
+                }
+            };
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(XlsxStreamWriter.CONTENT_TYPE));
+            headers.set("Content-Disposition", "attachment; filename=single-snapshot-batch-" +
+                    LocalDate.now() + ".xlsx");
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error exporting Single Snapshot batch as XLSX", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Run the batch described by the request; malformed groups or dates, a start date after the
+     * end date or a range over 180 days are rejected with IllegalArgumentException
+     */
+    private SnapshotBatchService.BatchResult runBatch(Map<String, Object> request) {
+        Map<String, List<String>> groups = parseGroups(request.get("groups"));
+        boolean useConfigured = groups.isEmpty();
+        if (useConfigured) {
+            groups = snapshotBatchService.getConfiguredGroups();
+        }
+        if (groups.isEmpty()) {
+            throw new IllegalArgumentException("No label groups given and none configured under app.snapshot-batch.groups");
+        }
+        boolean refresh = Boolean.TRUE.equals(request.get("refresh"));
+
+        Object startDateValue = request.get("startDate");
+        Object endDateValue = request.get("endDate");
+        if (startDateValue != null && endDateValue != null) {
+            LocalDate startDate = parseDate("startDate", startDateValue);
+            LocalDate endDate = parseDate("endDate", endDateValue);
+            if (startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("Start date must be before or equal to end date");
+            }
+            long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
+            if (daysBetween > 180) {
+                throw new IllegalArgumentException("Date range cannot exceed 6 months (180 days) for performance reasons. Current range: "
+                        + daysBetween + " days");
+            }
+            return snapshotBatchService.generate(groups, startDate, endDate, refresh);
+        }
+        if (!useConfigured) {
+            throw new IllegalArgumentException("startDate and endDate are required when groups are given");
+        }
+        return snapshotBatchService.generateConfigured(refresh);
+    }
+
+    /**
+     * Group name to label selection from the request body, or empty when no groups were given
+     */
+    private static Map<String, List<String>> parseGroups(Object value) {
+        if (value == null) {
+            return Map.of();
+        }
+        if (!(value instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException("groups must map group names to lists of labels");
+        }
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!(entry.getValue() instanceof List<?> labels) || !labels.stream().allMatch(String.class::isInstance)) {
+                throw new IllegalArgumentException("Labels of group " + entry.getKey() + " must be a list of strings");
+            }
+            groups.put(String.valueOf(entry.getKey()), labels.stream().map(String.class::cast).toList());
+        }
+        return groups;
+    }
+
+    private static LocalDate parseDate(String field, Object value) {
+        try {
+            return LocalDate.parse(String.valueOf(value).trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be an ISO date (yyyy-MM-dd): " + value);
+        }
+    }
+
+    /**
+     * Start Single Snapshot generation as a background job (start and end dates are mandatory)
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> createSnapshotJob(@RequestBody Map<String, Object> request) {
+        try {
+            @SuppressWarnings("unchecked")
+            List<String> selectedLabels = (List<String>) request.getOrDefault("labels", new ArrayList<>());
+            String startDateStr = (String) request.get("startDate");
+            String endDateStr = (String) request.get("endDate");
+            
+            if (startDateStr == null || startDateStr.trim().isEmpty() || endDateStr == null || endDateStr.trim().isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of(
+                        "status", "error",
+                        "message", "Start date and end date are mandatory for performance reasons"
+                ));
+            }
+            
+            LocalDate startDate = LocalDate.parse(startDateStr);
+            LocalDate endDate = LocalDate.parse(endDateStr);
+            
+            if (startDate.isAfter(endDate)) {
+                return ResponseEntity.badRequest().body(Map.of(
+                        "status", "error",
+                        "message", "Start date must be before or equal to end date"
+                ));
+            }
+            
+            long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
+            if (daysBetween > 180) {
+                return ResponseEntity.badRequest().body(Map.of(
+                        "status", "error",
+                        "message", "Date range cannot exceed 6 months (180 days) for performance reasons. Current range: " + daysBetween + " days"
+                ));
+            }
+            
+            SnapshotJobService.SnapshotJob job = snapshotJobService.submit(selectedLabels, startDate, endDate);
+            
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "status", "success",
+                    "jobId", job.getId(),
+                    "statusUrl", "/api/single-snapshot/jobs/" + job.getId(),
+                    "eventsUrl", "/api/single-snapshot/jobs/" + job.getId() + "/events"
+            ));
+        } catch (RejectedExecutionException e) {
+            log.warn("Snapshot job queue is full, rejecting request");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of(
+                    "status", "error",
+                    "message", "Too many snapshot jobs in progress, please retry shortly"
+            ));
+        } catch (Exception e) {
+            log.error("Error creating Single Snapshot job", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "status", "error",
+                    "message", "Failed to create Single Snapshot job: " + e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Get the current status and progress counters of a snapshot job
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getSnapshotJob(@PathVariable String jobId) {
+        return snapshotJobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toStatusMap()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Stream snapshot job progress as server-sent events ("progress", then "completed" or "failed")
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSnapshotJob(@PathVariable String jobId) {
+        return snapshotJobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(snapshotJobService.subscribe(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get the result of a completed snapshot job in the requested layout (sheets or horizontal)
+     */
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<Map<String, Object>> getSnapshotJobResult(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "sheets") String layout) {
+        Optional<SnapshotJobService.SnapshotJob> found = snapshotJobService.getJob(jobId);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        SnapshotJobService.SnapshotJob job = found.get();
+        if (job.getStatus() == SnapshotJobService.JobStatus.FAILED) {
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "status", "error",
+                    "message", "Snapshot job failed: " + job.getError()
+            ));
+        }
+        if (job.getStatus() != SnapshotJobService.JobStatus.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "status", "pending",
+                    "job", job.toStatusMap()
+            ));
+        }
+        
+        SingleSnapshotService.SingleSnapshotSheet snapshot = job.getSheet();
+        List<List<Object>> data = switch (layout) {
+            case "horizontal" -> snapshotService.convertToHorizontalLayout(snapshot);
+            case "sheets" -> snapshotService.convertToSheetsData(snapshot);
+            default -> null;
+        };
+        if (data == null) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", "Unknown layout: " + layout + ". Use sheets or horizontal"
+            ));
+        }
+        
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "snapshot", Map.of(
+                        "title", snapshot.getTitle(),
+                        "generatedDate", snapshot.getGeneratedDate().toString(),
+                        "selectedLabels", snapshot.getSelectedLabels(),
+                        "totalTasks", snapshot.getTotalTasks(),
+                        "totalPods", snapshot.getPodData().size(),
+                        "dateRange", snapshot.getDateRange()
+                ),
+                "layout", layout,
+                "data", data
+        ));
+    }
 }
@@ -0,0 +1,17 @@
+package com.paytm.jiradashboard.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Published after task assignments have been created, updated or removed, naming every
+ * assignee whose workload changed (both sides of a reassignment)
+ */
+@Getter
+@AllArgsConstructor
+public class AssignmentsChangedEvent {
+
+    private final Set<String> assigneeNames;
+}
@@ -0,0 +1,17 @@
+package com.paytm.jiradashboard.event;
+
+import com.paytm.jiradashboard.model.JiraIssue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published after a batch of Jira issues has been synced into the database
+ */
+@Getter
+@AllArgsConstructor
+public class IssuesSyncedEvent {
+
+    private final List<JiraIssue> issues;
+}
@@ -0,0 +1,17 @@
+package com.paytm.jiradashboard.event;
+
+import com.paytm.jiradashboard.model.TeamMember;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published after team members have been created, updated or removed
+ */
+@Getter
+@AllArgsConstructor
+public class TeamMembersChangedEvent {
+
+    private final List<TeamMember> members;
+}
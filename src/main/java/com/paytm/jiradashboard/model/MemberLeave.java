@@ -0,0 +1,39 @@
+package com.paytm.jiradashboard.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "member_leaves")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberLeave {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String memberName; // Reference to TeamMember
+    
+    @Column(nullable = false)
+    private LocalDate startDate; // First day away
+    
+    @Column(nullable = false)
+    private LocalDate endDate; // Last day away (inclusive)
+    
+    @Column
+    private String reason; // Vacation, sick leave, training, etc.
+    
+    @Column
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
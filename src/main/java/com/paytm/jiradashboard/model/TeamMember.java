@@ -52,4 +52,7 @@ public class TeamMember {
     
     @Column
     private String notes; // Any additional notes about availability
+    
+    @Column
+    private String aliases; // Semicolon-separated alternate names, e.g. Jira display names like "Mann, Tushar"
 } 
\ No newline at end of file
@@ -56,6 +56,12 @@ public interface JiraIssueRepository extends JpaRepository<JiraIssue, String> {
     @Query("SELECT j.status, COUNT(j) FROM JiraIssue j GROUP BY j.status")
     List<Object[]> countByStatusGroup();
     
+    @Query("SELECT j FROM JiraIssue j WHERE j.resolved >= :since")
+    List<JiraIssue> findResolvedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT j.issueKey, j.priority, j.dueDate FROM JiraIssue j WHERE j.priority IS NOT NULL OR j.dueDate IS NOT NULL")
+    List<Object[]> findPrioritiesAndDueDates();
+    
     @Query("SELECT j FROM JiraIssue j WHERE j.lastSyncTime < :syncTime OR j.lastSyncTime IS NULL")
     List<JiraIssue> findIssuesNeedingSync(@Param("syncTime") LocalDateTime syncTime);
 } 
\ No newline at end of file
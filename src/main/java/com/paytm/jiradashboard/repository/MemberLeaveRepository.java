@@ -0,0 +1,13 @@
+package com.paytm.jiradashboard.repository;
+
+import com.paytm.jiradashboard.model.MemberLeave;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MemberLeaveRepository extends JpaRepository<MemberLeave, Long> {
+    
+    List<MemberLeave> findByMemberNameOrderByStartDate(String memberName);
+}
@@ -19,14 +19,29 @@ public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment,
     
     Optional<TaskAssignment> findByIssueKeyAndAssigneeName(String issueKey, String assigneeName);
     
+    @Query("SELECT ta.issueKey, ta.assigneeName FROM TaskAssignment ta")
+    List<Object[]> findAllIssueKeysAndAssignees();
+    
     @Query("SELECT ta FROM TaskAssignment ta WHERE ta.assigneeName = :assignee AND " +
            "ta.taskStatus IN ('NOT_STARTED', 'IN_PROGRESS', 'ON_HOLD', 'BLOCKED')")
     List<TaskAssignment> findActiveTasksByAssignee(@Param("assignee") String assigneeName);
     
+    @Query("SELECT ta FROM TaskAssignment ta WHERE " +
+           "ta.taskStatus IN ('NOT_STARTED', 'IN_PROGRESS', 'ON_HOLD', 'BLOCKED')")
+    List<TaskAssignment> findAllActiveTasks();
+    
+    @Query("SELECT ta FROM TaskAssignment ta WHERE ta.startDate > :date AND " +
+           "ta.taskStatus IN ('NOT_STARTED', 'IN_PROGRESS', 'ON_HOLD', 'BLOCKED') ORDER BY ta.id")
+    List<TaskAssignment> findActiveTasksStartingAfter(@Param("date") LocalDate date);
+    
     @Query("SELECT ta FROM TaskAssignment ta WHERE ta.estimatedCompletionDate <= :date AND " +
            "ta.taskStatus IN ('NOT_STARTED', 'IN_PROGRESS', 'ON_HOLD', 'BLOCKED')")
     List<TaskAssignment> findOverdueTasksByDate(@Param("date") LocalDate date);
     
+    @Query("SELECT COUNT(ta) FROM TaskAssignment ta WHERE ta.estimatedCompletionDate <= :date AND " +
+           "ta.taskStatus IN ('NOT_STARTED', 'IN_PROGRESS', 'ON_HOLD', 'BLOCKED')")
+    long countOverdueTasksByDate(@Param("date") LocalDate date);
+    
     @Query("SELECT ta FROM TaskAssignment ta WHERE ta.estimatedCompletionDate BETWEEN :startDate AND :endDate")
     List<TaskAssignment> findTasksByCompletionDateRange(@Param("startDate") LocalDate startDate, 
                                                        @Param("endDate") LocalDate endDate);
@@ -42,4 +57,6 @@ public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment,
                                                       @Param("date") LocalDate date);
     
     List<TaskAssignment> findByIsBlockedTrue();
+    
+    long countByIsBlockedTrue();
 } 
\ No newline at end of file
@@ -17,6 +17,8 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     
     List<TeamMember> findByIsActiveTrue();
     
+    long countByIsActiveTrue();
+    
     List<TeamMember> findByTeam(String team);
     
     List<TeamMember> findByRole(String role);
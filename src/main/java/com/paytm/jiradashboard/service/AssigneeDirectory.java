@@ -0,0 +1,182 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.event.TeamMembersChangedEvent;
+import com.paytm.jiradashboard.model.TeamMember;
+import com.paytm.jiradashboard.repository.TeamMemberRepository;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Lookup of team members by assignee name. Names and aliases are normalized to a key of
+ * lower-cased alphanumeric tokens in sorted order, so "Mann, Tushar" and "Tushar Mann" resolve to
+ * the same member. Digits stay part of their token because Jira uses numeric suffixes such as
+ * "Puri, Prince1" to tell identically named people apart; such a name only resolves to a member
+ * through an alias. Loaded at startup and rebuilt whenever team members change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssigneeDirectory {
+
+    public static final String DEFAULT_ROLE = "DEV";
+
+    private final TeamMemberRepository teamMemberRepository;
+
+    private volatile Map<String, Entry> byKey = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        reload();
+    }
+
+    /**
+     * Reload once member changes are committed, ahead of listeners that resolve names through
+     * the directory; events published outside a transaction are handled immediately
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTeamMembersChanged(TeamMembersChangedEvent event) {
+        reload();
+    }
+
+    public void reload() {
+        List<TeamMember> members = teamMemberRepository.findAll();
+        Map<String, Entry> entries = new HashMap<>(members.size() * 4);
+        for (TeamMember member : members) {
+            Entry entry = new Entry(member.getId(), member.getName(), normalize(member.getName()),
+                    member.getRole(), member.getTeam(), !Boolean.FALSE.equals(member.getIsActive()));
+            // Aliases first so a member's own name wins over another member's alias
+            if (member.getAliases() != null) {
+                for (String alias : member.getAliases().split(";")) {
+                    entries.putIfAbsent(normalize(alias), entry);
+                }
+            }
+            entries.put(entry.getKey(), entry);
+        }
+        entries.remove("");
+        byKey = entries;
+        log.info("Loaded assignee directory with {} members and {} names", members.size(), entries.size());
+    }
+
+    public Optional<Entry> lookup(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byKey.get(normalize(name)));
+    }
+
+    /**
+     * Role of the team member behind the assignee name. Unknown assignees and members still on
+     * the role given to auto-created members fall back to the name-based role mapping.
+     */
+    public String roleOf(String assignee) {
+        Entry entry = lookup(assignee).orElse(null);
+        if (entry == null || entry.getRole() == null || entry.getRole().isBlank()
+                || entry.getRole().equals(CapacityPlanningService.AUTO_CREATED_MEMBER_ROLE)) {
+            return fallbackRole(assignee);
+        }
+        return entry.getRole();
+    }
+
+    /**
+     * Simplified role mapping based on common name patterns, or DEV
+     */
+    private static String fallbackRole(String assignee) {
+        if (assignee == null || assignee.trim().isEmpty()) {
+            return DEFAULT_ROLE;
+        }
+        String name = assignee.toLowerCase(Locale.ROOT);
+        if (name.contains("tushar") || name.contains("mann")) {
+            return "TL";
+        } else if (name.contains("syed") || name.contains("kashif")) {
+            return "SSE";
+        } else if (name.contains("navjot") || name.contains("singh")) {
+            return "SSE";
+        } else if (name.contains("praharsh")) {
+            return "EM";
+        } else if (name.contains("prince") || name.contains("puri")) {
+            return "TL";
+        } else if (name.contains("swati") || name.contains("verma")) {
+            return "SSE";
+        } else if (name.contains("siddharth") || name.contains("bhardwaj")) {
+            return "Intern";
+        } else if (name.contains("ashutosh") || name.contains("jaiswal")) {
+            return "SSE";
+        } else if (name.contains("oshi")) {
+            return "SSE";
+        } else if (name.contains("tanish")) {
+            return "SSE";
+        }
+        return DEFAULT_ROLE;
+    }
+
+    /**
+     * Key of the member behind the name, so aliases of one member share a key, or the
+     * normalized name when no member matches
+     */
+    public String keyOf(String name) {
+        String key = normalize(name);
+        Entry entry = byKey.get(key);
+        return entry != null ? entry.getKey() : key;
+    }
+
+    /**
+     * Normalized keys for a list of names, for repeated membership checks via matches
+     */
+    public Set<String> keysOf(Collection<String> names) {
+        Set<String> keys = new HashSet<>(names.size() * 2);
+        for (String name : names) {
+            // Resolve through the member so aliases of a listed member match as well
+            keys.add(keyOf(name));
+        }
+        return keys;
+    }
+
+    public boolean matches(String name, Set<String> keys) {
+        return name != null && keys.contains(keyOf(name));
+    }
+
+    /**
+     * Lower-case letter and digit tokens in sorted order; punctuation and spaces act as separators
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        List<String> tokens = new ArrayList<>(4);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (!token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+        }
+        Collections.sort(tokens);
+        return String.join(" ", tokens);
+    }
+
+    @Data
+    public static class Entry {
+        private final Long memberId;
+        private final String name;
+        private final String key;
+        private final String role;
+        private final String team;
+        private final boolean active;
+    }
+}
@@ -1,13 +1,18 @@
 package com.paytm.jiradashboard.service;
 
+import com.paytm.jiradashboard.event.AssignmentsChangedEvent;
+import com.paytm.jiradashboard.event.TeamMembersChangedEvent;
 import com.paytm.jiradashboard.model.*;
 import com.paytm.jiradashboard.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -16,28 +21,106 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CapacityPlanningService {
 
+    /**
+     * Role given to members created by Jira sync; it says nothing about their actual role
+     */
+    static final String AUTO_CREATED_MEMBER_ROLE = "Developer";
+
+    /**
+     * Forecast horizons kept per member; the least recently requested is dropped beyond this
+     */
+    private static final int MAX_CACHED_HORIZONS = 4;
+
     private final TeamMemberRepository teamMemberRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
     private final JiraIssueRepository jiraIssueRepository;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkingCalendarService workingCalendarService;
+    private final CapacitySchedulingService capacitySchedulingService;
+    private final MeterRegistry meterRegistry;
+    private final AssigneeDirectory assigneeDirectory;
+
+    // Maintained per-member capacity state keyed by assignee directory key, patched by change
+    // events and rebuilt on day rollover
+    private final Object capacityStateLock = new Object();
+    private CapacityState capacityState;
+
+    /**
+     * Capacity summary for every active member from the maintained state
+     */
     public List<TeamCapacitySummary> getTeamCapacitySummary() {
-        List<TeamMember> activeMembers = teamMemberRepository.findByIsActiveTrue();
-        
-        return activeMembers.stream()
-                .map(this::calculateMemberCapacity)
-                .collect(Collectors.toList());
+        synchronized (capacityStateLock) {
+            CapacityState state = currentCapacityState();
+            List<TeamCapacitySummary> summaries = new ArrayList<>(state.members.size());
+            for (MemberState member : state.members.values()) {
+                summaries.add(refreshIfStale(member).summary);
+            }
+            return summaries;
+        }
     }
 
     public TeamCapacitySummary calculateMemberCapacity(TeamMember member) {
-        List<TaskAssignment> activeTasks = taskAssignmentRepository.findActiveTasksByAssignee(member.getName());
-        
+        return calculateMemberCapacity(member, getActiveTasks(member.getName()));
+    }
+
+    /**
+     * Active assignments of the member behind the name, under any of their assignee spellings
+     */
+    public List<TaskAssignment> getActiveTasks(String memberName) {
+        synchronized (capacityStateLock) {
+            MemberState member = currentCapacityState().members.get(assigneeDirectory.keyOf(memberName));
+            if (member != null) {
+                return List.copyOf(member.activeTasks);
+            }
+        }
+        // Not an active member; only exact-name assignments can be attributed
+        return taskAssignmentRepository.findActiveTasksByAssignee(memberName);
+    }
+
+    /**
+     * Consistent copy of the maintained state for what-if simulation: each active member with
+     * their active tasks and current summary, by assignee directory key. Task lists and rows are
+     * shared with the state and must not be modified.
+     */
+    CapacitySnapshot capacitySnapshot() {
+        synchronized (capacityStateLock) {
+            CapacityState state = currentCapacityState();
+            Map<String, MemberCapacity> members = new HashMap<>(state.members.size() * 2);
+            for (Map.Entry<String, MemberState> entry : state.members.entrySet()) {
+                MemberState member = refreshIfStale(entry.getValue());
+                members.put(entry.getKey(), new MemberCapacity(member.member,
+                        Collections.unmodifiableList(member.activeTasks), member.summary));
+            }
+            return new CapacitySnapshot(state.day, members);
+        }
+    }
+
+    /**
+     * Tasks grouped by the assignee directory key of their assignee, so aliases of one member
+     * land in the same list
+     */
+    private Map<String, List<TaskAssignment>> groupByMemberKey(List<TaskAssignment> tasks) {
+        Map<String, List<TaskAssignment>> byKey = new HashMap<>();
+        for (TaskAssignment task : tasks) {
+            if (task.getAssigneeName() != null) {
+                byKey.computeIfAbsent(assigneeDirectory.keyOf(task.getAssigneeName()), key -> new ArrayList<>()).add(task);
+            }
+        }
+        return byKey;
+    }
+
+    TeamCapacitySummary calculateMemberCapacity(TeamMember member, List<TaskAssignment> activeTasks) {
         int totalRemainingHours = activeTasks.stream()
                 .mapToInt(task -> task.getRemainingHours() != null ? task.getRemainingHours() : 0)
                 .sum();
         
         double dailyCapacity = member.getHoursPerDay() * member.getCapacityMultiplier();
+        WorkingCalendar calendar = workingCalendarService.calendarFor(member);
         int daysToComplete = totalRemainingHours > 0 ? (int) Math.ceil(totalRemainingHours / dailyCapacity) : 0;
-        LocalDate availableFrom = LocalDate.now().plusDays(daysToComplete);
+        LocalDate availableFrom = calendar.addWorkingDays(LocalDate.now(), daysToComplete);
+        
+        WorkloadForecastEngine.Forecast forecast = WorkloadForecastEngine.forecast(
+                activeTasks, LocalDate.now(), LocalDate.now().plusDays(30), dailyCapacity, calendar);
         
         // Get upcoming deadlines
         List<TaskAssignment> upcomingDeadlines = activeTasks.stream()
@@ -62,197 +145,336 @@ public class CapacityPlanningService {
                 .activeTasks(activeTasks.size())
                 .estimatedAvailableDate(availableFrom)
                 .upcomingDeadlines(upcomingDeadlines)
-                .isOverloaded(isOverloaded(member, activeTasks))
-                .utilizationPercentage(calculateUtilization(member, activeTasks))
+                .isOverloaded(forecast.isOverloaded())
+                .utilizationPercentage(calculateUtilization(dailyCapacity, activeTasks, forecast))
                 .currentJiraIssues(currentJiraIssues)
                 .build();
     }
 
+    /**
+     * Daily workload per active member up to the given number of days ahead, from the maintained
+     * state; each member keeps forecasts for the few most recently requested horizons until
+     * their assignments change
+     */
     public List<ResourceAvailability> getResourceAvailabilityForecast(int daysAhead) {
-        LocalDate endDate = LocalDate.now().plusDays(daysAhead);
-        List<TeamMember> activeMembers = teamMemberRepository.findByIsActiveTrue();
-        
-        return activeMembers.stream()
-                .map(member -> calculateResourceAvailability(member, endDate))
-                .collect(Collectors.toList());
+        synchronized (capacityStateLock) {
+            CapacityState state = currentCapacityState();
+            LocalDate endDate = state.day.plusDays(daysAhead);
+            List<ResourceAvailability> forecasts = new ArrayList<>(state.members.size());
+            for (MemberState member : state.members.values()) {
+                Map<Integer, ResourceAvailability> availability = refreshIfStale(member).availability;
+                forecasts.add(availability.computeIfAbsent(daysAhead, days -> {
+                    List<TaskAssignment> workload = new ArrayList<>(member.activeTasks.size());
+                    for (TaskAssignment task : member.activeTasks) {
+                        if (task.getEstimatedCompletionDate() != null && !task.getEstimatedCompletionDate().isAfter(endDate)) {
+                            workload.add(task);
+                        }
+                    }
+                    return calculateResourceAvailability(member.member, workload, state.day);
+                }));
+                Iterator<Integer> leastRecent = availability.keySet().iterator();
+                while (availability.size() > MAX_CACHED_HORIZONS && leastRecent.hasNext()) {
+                    leastRecent.next();
+                    leastRecent.remove();
+                }
+            }
+            return forecasts;
+        }
     }
 
-    private ResourceAvailability calculateResourceAvailability(TeamMember member, LocalDate endDate) {
-        List<TaskAssignment> workload = taskAssignmentRepository.findWorkloadByAssigneeAndDate(
-                member.getName(), endDate);
-        
-        Map<LocalDate, Double> dailyWorkload = new HashMap<>();
-        
-        // Calculate daily workload distribution
-        for (TaskAssignment task : workload) {
-            if (task.getRemainingHours() != null && task.getEstimatedCompletionDate() != null) {
-                LocalDate startDate = task.getStartDate() != null ? task.getStartDate() : LocalDate.now();
-                long daysToComplete = ChronoUnit.DAYS.between(startDate, task.getEstimatedCompletionDate()) + 1;
-                
-                if (daysToComplete > 0) {
-                    double hoursPerDay = (double) task.getRemainingHours() / daysToComplete;
-                    
-                    for (LocalDate date = startDate; !date.isAfter(task.getEstimatedCompletionDate()); date = date.plusDays(1)) {
-                        dailyWorkload.merge(date, hoursPerDay, Double::sum);
+    /**
+     * Recompute only the named assignees once their assignment changes are committed; events
+     * published outside a transaction are handled immediately
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentsChanged(AssignmentsChangedEvent event) {
+        synchronized (capacityStateLock) {
+            if (capacityState == null) {
+                return;
+            }
+            Map<String, Set<String>> namesByKey = new HashMap<>();
+            for (String assignee : event.getAssigneeNames()) {
+                if (assignee != null) {
+                    namesByKey.computeIfAbsent(assigneeDirectory.keyOf(assignee), key -> new HashSet<>()).add(assignee);
+                }
+            }
+            namesByKey.forEach((key, names) -> {
+                MemberState existing = capacityState.members.get(key);
+                if (existing == null) {
+                    return;
+                }
+                // Reload only the spellings that changed; tasks under the member's other names stay
+                List<TaskAssignment> activeTasks = new ArrayList<>(existing.activeTasks.size() + 1);
+                for (TaskAssignment task : existing.activeTasks) {
+                    if (!names.contains(task.getAssigneeName())) {
+                        activeTasks.add(task);
                     }
                 }
+                for (String name : names) {
+                    activeTasks.addAll(taskAssignmentRepository.findActiveTasksByAssignee(name));
+                }
+                capacityState.members.put(key, memberState(existing.member, activeTasks));
+            });
+        }
+    }
+
+    /**
+     * Reconcile the active member list and recompute the members that changed, once the
+     * member changes are committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamMembersChanged(TeamMembersChangedEvent event) {
+        synchronized (capacityStateLock) {
+            if (capacityState == null) {
+                return;
             }
+            Set<String> changed = new HashSet<>();
+            for (TeamMember member : event.getMembers()) {
+                changed.add(assigneeDirectory.keyOf(member.getName()));
+            }
+            // Changed members may have new aliases, so their tasks are regrouped from all active tasks
+            Map<String, List<TaskAssignment>> activeTasksByKey = null;
+            Map<String, MemberState> members = new LinkedHashMap<>();
+            for (TeamMember member : teamMemberRepository.findByIsActiveTrue()) {
+                String key = assigneeDirectory.keyOf(member.getName());
+                MemberState existing = capacityState.members.get(key);
+                if (existing != null && !changed.contains(key)) {
+                    members.put(key, existing);
+                    continue;
+                }
+                if (activeTasksByKey == null) {
+                    activeTasksByKey = groupByMemberKey(taskAssignmentRepository.findAllActiveTasks());
+                }
+                members.put(key, memberState(member, activeTasksByKey.getOrDefault(key, List.of())));
+            }
+            capacityState = new CapacityState(capacityState.day, members);
+        }
+    }
+
+    private CapacityState currentCapacityState() {
+        LocalDate today = LocalDate.now();
+        if (capacityState == null || !capacityState.day.equals(today)) {
+            List<TeamMember> activeMembers = teamMemberRepository.findByIsActiveTrue();
+            Map<String, List<TaskAssignment>> activeTasksByKey = groupByMemberKey(
+                    taskAssignmentRepository.findAllActiveTasks());
+            Map<String, MemberState> members = new LinkedHashMap<>();
+            for (TeamMember member : activeMembers) {
+                String key = assigneeDirectory.keyOf(member.getName());
+                members.put(key, memberState(member, activeTasksByKey.getOrDefault(key, List.of())));
+            }
+            capacityState = new CapacityState(today, members);
+            log.info("Built capacity state for {} active members", members.size());
+        }
+        return capacityState;
+    }
+
+    private MemberState memberState(TeamMember member, List<TaskAssignment> activeTasks) {
+        return new MemberState(member, activeTasks, workingCalendarService.calendarFor(member),
+                calculateMemberCapacity(member, activeTasks));
+    }
+
+    /**
+     * Recompute a member whose working calendar was rebuilt, e.g. after a leave change
+     */
+    private MemberState refreshIfStale(MemberState member) {
+        if (member.calendar == workingCalendarService.calendarFor(member.member)) {
+            return member;
         }
+        MemberState refreshed = memberState(member.member, member.activeTasks);
+        capacityState.members.put(assigneeDirectory.keyOf(member.member.getName()), refreshed);
+        return refreshed;
+    }
+
+    private ResourceAvailability calculateResourceAvailability(TeamMember member, List<TaskAssignment> workload,
+                                                               LocalDate today) {
+        double dailyCapacity = member.getHoursPerDay() * member.getCapacityMultiplier();
+        WorkloadForecastEngine.Forecast forecast = WorkloadForecastEngine.forecast(
+                workload, today, null, dailyCapacity, workingCalendarService.calendarFor(member));
         
         return ResourceAvailability.builder()
                 .memberName(member.getName())
                 .role(member.getRole())
                 .team(member.getTeam())
-                .dailyCapacity(member.getHoursPerDay() * member.getCapacityMultiplier())
-                .workloadForecast(dailyWorkload)
+                .dailyCapacity(dailyCapacity)
+                .workloadForecast(forecast.toDailyMap())
                 .build();
     }
 
-    private boolean isOverloaded(TeamMember member, List<TaskAssignment> activeTasks) {
-        double dailyCapacity = member.getHoursPerDay() * member.getCapacityMultiplier();
+    private double calculateUtilization(double dailyCapacity, List<TaskAssignment> activeTasks,
+                                        WorkloadForecastEngine.Forecast forecast) {
+        if (activeTasks.isEmpty()) return 0.0;
         
-        // Check if any tasks have tight deadlines
-        return activeTasks.stream().anyMatch(task -> {
-            if (task.getRemainingHours() != null && task.getEstimatedCompletionDate() != null) {
-                long daysAvailable = ChronoUnit.DAYS.between(LocalDate.now(), task.getEstimatedCompletionDate()) + 1;
-                double requiredDailyHours = daysAvailable > 0 ? (double) task.getRemainingHours() / daysAvailable : 0;
-                return requiredDailyHours > dailyCapacity;
-            }
-            return false;
-        });
+        // Average daily workload over the working days of the next 30 days
+        return Math.min(100.0, (forecast.averageLoad() / dailyCapacity) * 100.0);
     }
 
-    private double calculateUtilization(TeamMember member, List<TaskAssignment> activeTasks) {
-        if (activeTasks.isEmpty()) return 0.0;
-        
-        double dailyCapacity = member.getHoursPerDay() * member.getCapacityMultiplier();
-        
-        // Calculate average daily workload for next 30 days
-        Map<LocalDate, Double> dailyWorkload = new HashMap<>();
-        LocalDate endDate = LocalDate.now().plusDays(30);
-        
-        for (TaskAssignment task : activeTasks) {
-            if (task.getRemainingHours() != null && task.getEstimatedCompletionDate() != null) {
-                LocalDate startDate = task.getStartDate() != null ? task.getStartDate() : LocalDate.now();
-                long daysToComplete = ChronoUnit.DAYS.between(startDate, task.getEstimatedCompletionDate()) + 1;
-                
-                if (daysToComplete > 0) {
-                    double hoursPerDay = (double) task.getRemainingHours() / daysToComplete;
-                    
-                    for (LocalDate date = startDate; !date.isAfter(task.getEstimatedCompletionDate()) && !date.isAfter(endDate); date = date.plusDays(1)) {
-                        dailyWorkload.merge(date, hoursPerDay, Double::sum);
-                    }
-                }
-            }
+    /**
+     * Create or update a task assignment and notify listeners of both the old and new assignee
+     */
+    public TaskAssignment saveAssignment(TaskAssignment assignment) {
+        Set<String> affected = new HashSet<>();
+        if (assignment.getId() != null) {
+            taskAssignmentRepository.findById(assignment.getId())
+                    .map(TaskAssignment::getAssigneeName)
+                    .ifPresent(affected::add);
         }
-        
-        double averageWorkload = dailyWorkload.values().stream()
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElse(0.0);
-        
-        return Math.min(100.0, (averageWorkload / dailyCapacity) * 100.0);
+        TaskAssignment saved = taskAssignmentRepository.save(assignment);
+        affected.add(saved.getAssigneeName());
+        eventPublisher.publishEvent(new AssignmentsChangedEvent(affected));
+        return saved;
     }
 
+    /**
+     * Create team members and task assignments for active Jira issues. Assignees are resolved
+     * through the assignee directory, so a Jira spelling of an existing member or one of their
+     * aliases joins that member, and new assignments are stored under the member's name. Existing
+     * members and assignment keys are preloaded in two queries, new rows are built in memory and
+     * saved together in one transaction.
+     */
+    @Transactional
     public void syncJiraAssignments() {
         log.info("Syncing Jira assignments with capacity planning...");
         
         List<JiraIssue> activeIssues = jiraIssueRepository.findByStatusIn(
                 Arrays.asList(IssueStatus.TO_DO, IssueStatus.IN_PROGRESS, IssueStatus.IN_REVIEW));
         
+        Map<String, TeamMember> membersByKey = new HashMap<>();
+        for (TeamMember member : teamMemberRepository.findAll()) {
+            membersByKey.put(assigneeDirectory.keyOf(member.getName()), member);
+        }
+        Set<String> existingAssignments = new HashSet<>();
+        for (Object[] row : taskAssignmentRepository.findAllIssueKeysAndAssignees()) {
+            existingAssignments.add(assignmentKey((String) row[0], assigneeDirectory.keyOf((String) row[1])));
+        }
+        
         // First, ensure all assignees exist as team members
         Set<String> assignees = activeIssues.stream()
                 .map(JiraIssue::getAssignee)
                 .filter(assignee -> assignee != null && !assignee.equals("Unassigned"))
                 .collect(Collectors.toSet());
         
+        // Only assignees that resolve to no member are created, once per key
+        Map<String, TeamMember> newMembersByKey = new LinkedHashMap<>();
         for (String assignee : assignees) {
-            ensureTeamMemberExists(assignee);
+            String key = assigneeDirectory.keyOf(assignee);
+            if (!membersByKey.containsKey(key) && !newMembersByKey.containsKey(key)) {
+                newMembersByKey.put(key, newTeamMember(assignee));
+            }
+        }
+        List<TeamMember> newMembers = new ArrayList<>(newMembersByKey.values());
+        if (!newMembers.isEmpty()) {
+            List<TeamMember> createdMembers = teamMemberRepository.saveAll(newMembers);
+            for (TeamMember member : createdMembers) {
+                membersByKey.put(assigneeDirectory.keyOf(member.getName()), member);
+            }
+            log.info("Created {} team members for new Jira assignees", createdMembers.size());
+            eventPublisher.publishEvent(new TeamMembersChangedEvent(createdMembers));
         }
         
-        // Then sync task assignments
+        // Then sync task assignments, queueing new ones behind each assignee's existing work
+        List<TaskAssignment> newAssignments = new ArrayList<>();
+        Set<String> changedAssignees = new HashSet<>();
+        int skipped = 0;
         for (JiraIssue issue : activeIssues) {
-            if (!issue.getAssignee().equals("Unassigned")) {
-                syncTaskAssignment(issue);
+            if (issue.getAssignee() == null || issue.getAssignee().equals("Unassigned")) {
+                continue;
+            }
+            String key = assigneeDirectory.keyOf(issue.getAssignee());
+            if (!existingAssignments.add(assignmentKey(issue.getIssueKey(), key))) {
+                skipped++;
+                continue;
             }
+            TeamMember member = membersByKey.get(key);
+            newAssignments.add(newTaskAssignment(issue, member));
+            changedAssignees.add(member.getName());
+        }
+        if (!newAssignments.isEmpty()) {
+            capacitySchedulingService.scheduleNewAssignments(newAssignments);
+            taskAssignmentRepository.saveAll(newAssignments);
+            eventPublisher.publishEvent(new AssignmentsChangedEvent(changedAssignees));
         }
         
-        log.info("Synced {} issues with {} unique assignees", activeIssues.size(), assignees.size());
+        meterRegistry.counter("capacity.sync.members", "result", "created").increment(newMembers.size());
+        meterRegistry.counter("capacity.sync.assignments", "result", "created").increment(newAssignments.size());
+        meterRegistry.counter("capacity.sync.assignments", "result", "skipped").increment(skipped);
+        log.info("Synced {} issues with {} unique assignees: {} assignments created, {} already present",
+                activeIssues.size(), assignees.size(), newAssignments.size(), skipped);
     }
 
-    private void ensureTeamMemberExists(String assigneeName) {
-        Optional<TeamMember> existingMember = teamMemberRepository.findByName(assigneeName);
-        
-        if (existingMember.isEmpty()) {
-            // Create a new team member with default values
-            TeamMember newMember = TeamMember.builder()
-                    .name(assigneeName)
-                    .email(assigneeName.toLowerCase().replace(" ", ".") + "@paytm.com") // Generate email
-                    .role("Developer") // Default role
-                    .team("Development") // Default team
-                    .hoursPerDay(8) // Standard 8 hours
-                    .capacityMultiplier(1.0) // Full capacity
-                    .isActive(true)
-                    .startDate(LocalDate.now())
-                    .skills("Java, Spring Boot") // Default skills
-                    .notes("Auto-created from Jira assignee")
-                    .build();
-            
-            teamMemberRepository.save(newMember);
-            log.info("Created new team member for Jira assignee: {}", assigneeName);
-        }
+    private static String assignmentKey(String issueKey, String assigneeKey) {
+        return issueKey + "|" + assigneeKey;
     }
 
-    private void syncTaskAssignment(JiraIssue issue) {
-        Optional<TaskAssignment> existingAssignment = taskAssignmentRepository
-                .findByIssueKeyAndAssigneeName(issue.getIssueKey(), issue.getAssignee());
+    /**
+     * Create or update a team member and notify listeners such as the assignee directory
+     */
+    public TeamMember saveTeamMember(TeamMember teamMember) {
+        TeamMember saved = teamMemberRepository.save(teamMember);
+        eventPublisher.publishEvent(new TeamMembersChangedEvent(List.of(saved)));
+        return saved;
+    }
+
+    private static TeamMember newTeamMember(String assigneeName) {
+        // Create a new team member with default values
+        return TeamMember.builder()
+                .name(assigneeName)
+                .email(assigneeName.toLowerCase().replace(" ", ".") + "@paytm.com") // Generate email
+                .role(AUTO_CREATED_MEMBER_ROLE)
+                .team("Development") // Default team
+                .hoursPerDay(8) // Standard 8 hours
+                .capacityMultiplier(1.0) // Full capacity
+                .isActive(true)
+                .startDate(LocalDate.now())
+                .skills("Java, Spring Boot") // Default skills
+                .notes("Auto-created from Jira assignee")
+                .build();
+    }
+
+    private TaskAssignment newTaskAssignment(JiraIssue issue, TeamMember member) {
+        // Create new assignment with estimated hours based on story points
+        int estimatedHours = estimateHoursFromStoryPoints(issue.getStoryPoints());
         
-        if (existingAssignment.isEmpty()) {
-            // Create new assignment with estimated hours based on story points
-            int estimatedHours = estimateHoursFromStoryPoints(issue.getStoryPoints());
-            
-            TaskAssignment newAssignment = TaskAssignment.builder()
-                    .issueKey(issue.getIssueKey())
-                    .assigneeName(issue.getAssignee())
-                    .estimatedHours(estimatedHours)
-                    .remainingHours(estimatedHours)
-                    .startDate(LocalDate.now())
-                    .estimatedCompletionDate(issue.getDueDate() != null ? 
-                                           issue.getDueDate().toLocalDate() : 
-                                           calculateEstimatedCompletion(issue.getAssignee(), estimatedHours))
-                    .taskStatus(mapJiraStatusToTaskStatus(issue.getStatus()))
-                    .build();
-            
-            taskAssignmentRepository.save(newAssignment);
-            log.debug("Created new task assignment for issue {} assigned to {}", 
-                     issue.getIssueKey(), issue.getAssignee());
-        }
+        TaskAssignment newAssignment = TaskAssignment.builder()
+                .issueKey(issue.getIssueKey())
+                .assigneeName(member.getName())
+                .estimatedHours(estimatedHours)
+                .remainingHours(estimatedHours)
+                .startDate(LocalDate.now())
+                .estimatedCompletionDate(issue.getDueDate() != null ? 
+                                       issue.getDueDate().toLocalDate() : 
+                                       calculateEstimatedCompletion(member, estimatedHours))
+                .taskStatus(mapJiraStatusToTaskStatus(issue.getStatus()))
+                .build();
+        
+        log.debug("Created new task assignment for issue {} assigned to {}", 
+                 issue.getIssueKey(), issue.getAssignee());
+        return newAssignment;
     }
 
+    // Convert story points to hours (this is configurable)
+    private static final Map<Integer, Integer> STORY_POINT_HOURS = Map.of(
+            1, 4,   // 0.5 day
+            2, 8,   // 1 day
+            3, 16,  // 2 days
+            5, 32,  // 4 days
+            8, 64,  // 8 days
+            13, 104 // 13 days
+    );
+
     private int estimateHoursFromStoryPoints(Integer storyPoints) {
         if (storyPoints == null) return 8; // Default 1 day
         
-        // Convert story points to hours (this is configurable)
-        Map<Integer, Integer> storyPointToHours = Map.of(
-                1, 4,   // 0.5 day
-                2, 8,   // 1 day
-                3, 16,  // 2 days
-                5, 32,  // 4 days
-                8, 64,  // 8 days
-                13, 104 // 13 days
-        );
-        
-        return storyPointToHours.getOrDefault(storyPoints, storyPoints * 8); // Fallback: 1 day per point
+        return STORY_POINT_HOURS.getOrDefault(storyPoints, storyPoints * 8); // Fallback: 1 day per point
     }
 
-    private LocalDate calculateEstimatedCompletion(String assigneeName, int estimatedHours) {
-        Optional<TeamMember> member = teamMemberRepository.findByName(assigneeName);
-        if (member.isPresent()) {
-            double dailyCapacity = member.get().getHoursPerDay() * member.get().getCapacityMultiplier();
+    private LocalDate calculateEstimatedCompletion(TeamMember member, int estimatedHours) {
+        if (member != null) {
+            double dailyCapacity = member.getHoursPerDay() * member.getCapacityMultiplier();
             int daysNeeded = (int) Math.ceil(estimatedHours / dailyCapacity);
-            return LocalDate.now().plusDays(daysNeeded);
+            return workingCalendarService.calendarFor(member).addWorkingDays(LocalDate.now(), daysNeeded);
         }
-        return LocalDate.now().plusDays(estimatedHours / 8); // Default 8 hours per day
+        return workingCalendarService.defaultCalendar()
+                .addWorkingDays(LocalDate.now(), estimatedHours / 8); // Default 8 hours per day
     }
 
     private TaskAssignment.TaskStatus mapJiraStatusToTaskStatus(IssueStatus jiraStatus) {
@@ -266,6 +488,55 @@ public class CapacityPlanningService {
         };
     }
 
+    private static final class CapacityState {
+        private final LocalDate day;
+        private final Map<String, MemberState> members;
+
+        private CapacityState(LocalDate day, Map<String, MemberState> members) {
+            this.day = day;
+            this.members = members;
+        }
+    }
+
+    static final class CapacitySnapshot {
+        final LocalDate day;
+        final Map<String, MemberCapacity> members;
+
+        private CapacitySnapshot(LocalDate day, Map<String, MemberCapacity> members) {
+            this.day = day;
+            this.members = members;
+        }
+    }
+
+    static final class MemberCapacity {
+        final TeamMember member;
+        final List<TaskAssignment> activeTasks;
+        final TeamCapacitySummary summary;
+
+        private MemberCapacity(TeamMember member, List<TaskAssignment> activeTasks, TeamCapacitySummary summary) {
+            this.member = member;
+            this.activeTasks = activeTasks;
+            this.summary = summary;
+        }
+    }
+
+    private static final class MemberState {
+        private final TeamMember member;
+        private final List<TaskAssignment> activeTasks;
+        private final WorkingCalendar calendar;
+        private final TeamCapacitySummary summary;
+        // Access-ordered, so the least recently requested horizon is evicted first
+        private final Map<Integer, ResourceAvailability> availability = new LinkedHashMap<>(8, 0.75f, true);
+
+        private MemberState(TeamMember member, List<TaskAssignment> activeTasks, WorkingCalendar calendar,
+                            TeamCapacitySummary summary) {
+            this.member = member;
+            this.activeTasks = activeTasks;
+            this.calendar = calendar;
+            this.summary = summary;
+        }
+    }
+
     // DTOs for API responses
     public static class TeamCapacitySummary {
         public String memberName;
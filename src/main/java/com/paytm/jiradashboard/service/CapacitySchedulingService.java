@@ -0,0 +1,244 @@
+package com.paytm.jiradashboard.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.paytm.jiradashboard.event.AssignmentsChangedEvent;
+import com.paytm.jiradashboard.model.TaskAssignment;
+import com.paytm.jiradashboard.model.TeamMember;
+import com.paytm.jiradashboard.repository.JiraIssueRepository;
+import com.paytm.jiradashboard.repository.TaskAssignmentRepository;
+import com.paytm.jiradashboard.repository.TeamMemberRepository;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Plans realistic start and end dates by queueing each member's active tasks against their
+ * remaining daily capacity on their working calendar. Blocked and on-hold tasks are left out
+ * of the queue because they cannot progress.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CapacitySchedulingService {
+
+    private static final int DEFAULT_PRIORITY_RANK = 2;
+
+    private final TeamMemberRepository teamMemberRepository;
+    private final TaskAssignmentRepository taskAssignmentRepository;
+    private final JiraIssueRepository jiraIssueRepository;
+    private final WorkingCalendarService workingCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssigneeDirectory assigneeDirectory;
+
+    /**
+     * Plan for every active member, or only the given assignee when non-null
+     */
+    public List<ScheduledTask> plan(String assignee) {
+        return plan(activeTasksOf(assignee), List.of());
+    }
+
+    /**
+     * Write the planned dates to every scheduled active task
+     */
+    public List<ScheduledTask> apply(String assignee) {
+        List<TaskAssignment> activeTasks = activeTasksOf(assignee);
+        Map<Long, TaskAssignment> byId = new HashMap<>(activeTasks.size() * 2);
+        for (TaskAssignment task : activeTasks) {
+            byId.put(task.getId(), task);
+        }
+
+        List<ScheduledTask> plan = plan(activeTasks, List.of());
+        List<TaskAssignment> changed = new ArrayList<>();
+        Set<String> assignees = new HashSet<>();
+        for (ScheduledTask scheduled : plan) {
+            TaskAssignment task = byId.get(scheduled.getAssignmentId());
+            if (task != null && scheduled.getStartDate() != null && setDates(task, scheduled)) {
+                changed.add(task);
+                assignees.add(task.getAssigneeName());
+            }
+        }
+        if (!changed.isEmpty()) {
+            taskAssignmentRepository.saveAll(changed);
+            eventPublisher.publishEvent(new AssignmentsChangedEvent(assignees));
+        }
+        log.info("Applied schedule: {} of {} tasks got new dates", changed.size(), plan.size());
+        return plan;
+    }
+
+    /**
+     * Active tasks of every member, or of the member behind the given assignee name under any
+     * of their spellings
+     */
+    private List<TaskAssignment> activeTasksOf(String assignee) {
+        List<TaskAssignment> activeTasks = taskAssignmentRepository.findAllActiveTasks();
+        if (assignee == null) {
+            return activeTasks;
+        }
+        Set<String> keys = assigneeDirectory.keysOf(List.of(assignee));
+        List<TaskAssignment> matching = new ArrayList<>();
+        for (TaskAssignment task : activeTasks) {
+            if (assigneeDirectory.matches(task.getAssigneeName(), keys)) {
+                matching.add(task);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Give new, unsaved assignments the dates they get when queued with their assignee's
+     * existing work. Existing tasks keep their stored dates, new tasks that cannot be
+     * scheduled keep whatever dates they came with, and a Jira due date is never replaced.
+     */
+    public void scheduleNewAssignments(List<TaskAssignment> newAssignments) {
+        if (newAssignments.isEmpty()) {
+            return;
+        }
+        Set<String> assignees = new HashSet<>();
+        for (TaskAssignment assignment : newAssignments) {
+            assignees.add(assignment.getAssigneeName());
+        }
+        Set<String> keys = assigneeDirectory.keysOf(assignees);
+        List<TaskAssignment> existing = new ArrayList<>();
+        for (TaskAssignment task : taskAssignmentRepository.findAllActiveTasks()) {
+            if (assigneeDirectory.matches(task.getAssigneeName(), keys)) {
+                existing.add(task);
+            }
+        }
+
+        Map<TaskAssignment, ScheduledTask> planned = new IdentityHashMap<>();
+        List<ScheduledTask> plan = plan(existing, newAssignments);
+        for (ScheduledTask scheduled : plan) {
+            if (scheduled.getAssignment() != null) {
+                planned.put(scheduled.getAssignment(), scheduled);
+            }
+        }
+        for (TaskAssignment assignment : newAssignments) {
+            ScheduledTask scheduled = planned.get(assignment);
+            if (scheduled != null && scheduled.getStartDate() != null) {
+                setDates(assignment, scheduled);
+            }
+        }
+    }
+
+    private List<ScheduledTask> plan(List<TaskAssignment> storedTasks, List<TaskAssignment> unsavedTasks) {
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+
+        // Members and their queues are joined by assignee directory key, so aliases share a queue
+        Map<String, TeamMember> members = new HashMap<>();
+        for (TeamMember member : teamMemberRepository.findByIsActiveTrue()) {
+            members.put(assigneeDirectory.keyOf(member.getName()), member);
+        }
+        Map<String, Object[]> issueInfo = new HashMap<>();
+        for (Object[] row : jiraIssueRepository.findPrioritiesAndDueDates()) {
+            issueInfo.put((String) row[0], row);
+        }
+
+        Map<String, List<TaskScheduleEngine.Job>> jobsByMember = new LinkedHashMap<>();
+        long sequence = 0;
+        for (List<TaskAssignment> tasks : List.of(storedTasks, unsavedTasks)) {
+            for (TaskAssignment task : tasks) {
+                String key = task.getAssigneeName() != null ? assigneeDirectory.keyOf(task.getAssigneeName()) : null;
+                if (!members.containsKey(key) || !isSchedulable(task)) {
+                    continue;
+                }
+                Object[] info = issueInfo.get(task.getIssueKey());
+                LocalDateTime jiraDue = info != null ? (LocalDateTime) info[2] : null;
+                jobsByMember.computeIfAbsent(key, k -> new ArrayList<>())
+                        .add(new TaskScheduleEngine.Job(task, hoursOf(task),
+                                task.getTaskStatus() == TaskAssignment.TaskStatus.IN_PROGRESS,
+                                priorityRank(info != null ? (String) info[1] : null),
+                                jiraDue != null ? jiraDue.toLocalDate() : null, sequence++));
+            }
+        }
+
+        List<ScheduledTask> plan = new ArrayList<>((int) sequence);
+        jobsByMember.forEach((key, jobs) -> {
+            TeamMember member = members.get(key);
+            double dailyCapacity = member.getHoursPerDay() * member.getCapacityMultiplier();
+            for (TaskScheduleEngine.Placement placement : TaskScheduleEngine.schedule(
+                    jobs, today, dailyCapacity, workingCalendarService.calendarFor(member))) {
+                plan.add(toScheduledTask(placement));
+            }
+        });
+        log.debug("Scheduled {} tasks for {} members in {} ms", plan.size(), jobsByMember.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return plan;
+    }
+
+    private static boolean isSchedulable(TaskAssignment task) {
+        return task.getTaskStatus() == TaskAssignment.TaskStatus.NOT_STARTED
+                || task.getTaskStatus() == TaskAssignment.TaskStatus.IN_PROGRESS;
+    }
+
+    private static double hoursOf(TaskAssignment task) {
+        if (task.getRemainingHours() != null) {
+            return Math.max(0, task.getRemainingHours());
+        }
+        return task.getEstimatedHours() != null ? Math.max(0, task.getEstimatedHours()) : 0;
+    }
+
+    /**
+     * Jira priority names to a sort rank; unknown or missing priorities sort as Medium
+     */
+    static int priorityRank(String priority) {
+        if (priority == null) {
+            return DEFAULT_PRIORITY_RANK;
+        }
+        return switch (priority.trim().toUpperCase(Locale.ROOT)) {
+            case "HIGHEST", "BLOCKER", "P0" -> 0;
+            case "HIGH", "CRITICAL", "MAJOR", "P1" -> 1;
+            case "LOW", "MINOR", "P3" -> 3;
+            case "LOWEST", "TRIVIAL", "P4" -> 4;
+            default -> DEFAULT_PRIORITY_RANK;
+        };
+    }
+
+    /**
+     * Copy planned dates onto the task. Tasks already in progress keep their actual start date,
+     * and tasks with a Jira due date keep it as their estimated completion; the plan reports
+     * them as late instead.
+     */
+    private static boolean setDates(TaskAssignment task, ScheduledTask scheduled) {
+        boolean changed = false;
+        if (task.getTaskStatus() != TaskAssignment.TaskStatus.IN_PROGRESS
+                && !scheduled.getStartDate().equals(task.getStartDate())) {
+            task.setStartDate(scheduled.getStartDate());
+            changed = true;
+        }
+        if (scheduled.getDueDate() == null && !scheduled.getEndDate().equals(task.getEstimatedCompletionDate())) {
+            task.setEstimatedCompletionDate(scheduled.getEndDate());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static ScheduledTask toScheduledTask(TaskScheduleEngine.Placement placement) {
+        TaskScheduleEngine.Job job = placement.job;
+        TaskAssignment task = job.assignment;
+        LocalDate dueDate = job.dueDay != Long.MAX_VALUE ? LocalDate.ofEpochDay(job.dueDay) : null;
+        boolean late = placement.end != null && dueDate != null && placement.end.isAfter(dueDate);
+        return new ScheduledTask(task, task.getId(), task.getIssueKey(), task.getAssigneeName(), job.hours,
+                dueDate, placement.start, placement.end, late);
+    }
+
+    @Data
+    public static class ScheduledTask {
+        @JsonIgnore
+        private final TaskAssignment assignment;
+        private final Long assignmentId;
+        private final String issueKey;
+        private final String assigneeName;
+        private final double hours;
+        private final LocalDate dueDate;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final boolean late;
+    }
+}
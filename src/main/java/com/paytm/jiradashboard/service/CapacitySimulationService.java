@@ -0,0 +1,233 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.model.TaskAssignment;
+import com.paytm.jiradashboard.model.TeamMember;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * What-if capacity planning. Hypothetical reassignments and date changes are applied to an
+ * overlay over the in-memory capacity model maintained by CapacityPlanningService, so a request
+ * does not query the database. The model's rows are never modified: a changed task is copied
+ * once and replaces the original in the affected members' lists only, and only those members
+ * get a new forecast. Nothing is written to the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CapacitySimulationService {
+
+    private static final int DEFAULT_HORIZON_DAYS = 14;
+
+    private final CapacityPlanningService capacityPlanningService;
+    private final WorkingCalendarService workingCalendarService;
+    private final AssigneeDirectory assigneeDirectory;
+
+    public SimulationResult simulate(SimulationRequest request) {
+        long started = System.nanoTime();
+        CapacityPlanningService.CapacitySnapshot model = capacityPlanningService.capacitySnapshot();
+        LocalDate today = model.day;
+        int horizonDays = request.getHorizonDays() != null && request.getHorizonDays() > 0
+                ? request.getHorizonDays() : DEFAULT_HORIZON_DAYS;
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+
+        // Members and task lists are keyed by assignee directory key, so aliases of one member share a list
+        Map<String, TeamMember> members = new HashMap<>(model.members.size() * 2);
+        Map<Long, TaskAssignment> byId = new HashMap<>();
+        Map<String, List<TaskAssignment>> byIssueKey = new HashMap<>();
+        model.members.forEach((key, member) -> {
+            members.put(key, member.member);
+            for (TaskAssignment task : member.activeTasks) {
+                byId.put(task.getId(), task);
+                byIssueKey.computeIfAbsent(task.getIssueKey(), issueKey -> new ArrayList<>(1)).add(task);
+            }
+        });
+
+        // Copy-on-write overlay: changed tasks by id, plus every assignee whose list they touch
+        Map<Long, TaskAssignment> overrides = new LinkedHashMap<>();
+        Set<String> affected = new LinkedHashSet<>();
+        List<String> errors = new ArrayList<>();
+        List<SimulationChange> changes = request.getChanges() != null ? request.getChanges() : List.of();
+
+        for (int i = 0; i < changes.size(); i++) {
+            SimulationChange change = changes.get(i);
+            String error = applyChange(change, byId, byIssueKey, overrides, affected, members);
+            if (error != null) {
+                errors.add("Change " + (i + 1) + ": " + error);
+            }
+        }
+
+        List<MemberImpact> impacts = new ArrayList<>(affected.size());
+        for (String key : affected) {
+            CapacityPlanningService.MemberCapacity current = model.members.get(key);
+            if (current == null) {
+                continue; // Tasks moved away from someone who is not an active member
+            }
+            TeamMember member = current.member;
+            List<TaskAssignment> before = current.activeTasks;
+            List<TaskAssignment> after = new ArrayList<>(before.size() + 1);
+            for (TaskAssignment task : before) {
+                if (!overrides.containsKey(task.getId())) {
+                    after.add(task);
+                }
+            }
+            for (TaskAssignment task : overrides.values()) {
+                if (key.equals(assigneeDirectory.keyOf(task.getAssigneeName()))) {
+                    after.add(task);
+                }
+            }
+            impacts.add(new MemberImpact(member.getName(), member.getRole(), member.getTeam(),
+                    forecast(member, before, current.summary, today, horizonEnd),
+                    forecast(member, after, capacityPlanningService.calculateMemberCapacity(member, after), today, horizonEnd)));
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Simulated {} changes affecting {} members in {} ms", changes.size(), impacts.size(), elapsedMs);
+        return new SimulationResult(today, horizonEnd, overrides.size(), errors, impacts, elapsedMs);
+    }
+
+    private String applyChange(SimulationChange change, Map<Long, TaskAssignment> byId,
+                               Map<String, List<TaskAssignment>> byIssueKey, Map<Long, TaskAssignment> overrides,
+                               Set<String> affected, Map<String, TeamMember> members) {
+        TaskAssignment original;
+        if (change.getAssignmentId() != null) {
+            original = byId.get(change.getAssignmentId());
+            if (original == null) {
+                return "no active assignment with id " + change.getAssignmentId();
+            }
+        } else if (change.getIssueKey() != null) {
+            List<TaskAssignment> candidates = new ArrayList<>(byIssueKey.getOrDefault(change.getIssueKey(), List.of()));
+            if (change.getFromAssignee() != null) {
+                Set<String> from = assigneeDirectory.keysOf(List.of(change.getFromAssignee()));
+                candidates.removeIf(task -> !assigneeDirectory.matches(task.getAssigneeName(), from));
+            }
+            if (candidates.isEmpty()) {
+                return "no active assignment for " + change.getIssueKey();
+            }
+            if (candidates.size() > 1) {
+                return change.getIssueKey() + " has " + candidates.size() + " active assignments; give fromAssignee or assignmentId";
+            }
+            original = candidates.get(0);
+        } else {
+            return "assignmentId or issueKey is required";
+        }
+
+        String targetAssignee = null;
+        if (change.getToAssignee() != null) {
+            targetAssignee = assigneeDirectory.lookup(change.getToAssignee())
+                    .map(AssigneeDirectory.Entry::getName)
+                    .orElse(change.getToAssignee());
+            if (!members.containsKey(assigneeDirectory.keyOf(targetAssignee))) {
+                return "unknown or inactive team member " + change.getToAssignee();
+            }
+        }
+
+        TaskAssignment simulated = overrides.get(original.getId());
+        if (simulated == null) {
+            simulated = copyOf(original);
+            overrides.put(original.getId(), simulated);
+        }
+        affected.add(assigneeDirectory.keyOf(original.getAssigneeName()));
+        if (targetAssignee != null) {
+            simulated.setAssigneeName(targetAssignee);
+        }
+        if (change.getStartDate() != null) {
+            simulated.setStartDate(change.getStartDate());
+        }
+        if (change.getEstimatedCompletionDate() != null) {
+            simulated.setEstimatedCompletionDate(change.getEstimatedCompletionDate());
+        }
+        if (change.getRemainingHours() != null) {
+            simulated.setRemainingHours(change.getRemainingHours());
+        }
+        affected.add(assigneeDirectory.keyOf(simulated.getAssigneeName()));
+        return null;
+    }
+
+    private MemberForecast forecast(TeamMember member, List<TaskAssignment> tasks,
+                                    CapacityPlanningService.TeamCapacitySummary summary, LocalDate today, LocalDate horizonEnd) {
+        WorkloadForecastEngine.Forecast horizon = WorkloadForecastEngine.forecast(tasks, today, horizonEnd,
+                summary.dailyCapacityHours, workingCalendarService.calendarFor(member));
+        return new MemberForecast(summary.totalRemainingHours, summary.activeTasks, summary.isOverloaded,
+                summary.utilizationPercentage, summary.estimatedAvailableDate, horizon.toDailyMap());
+    }
+
+    private static TaskAssignment copyOf(TaskAssignment task) {
+        return TaskAssignment.builder()
+                .id(task.getId())
+                .issueKey(task.getIssueKey())
+                .assigneeName(task.getAssigneeName())
+                .estimatedHours(task.getEstimatedHours())
+                .actualHours(task.getActualHours())
+                .remainingHours(task.getRemainingHours())
+                .startDate(task.getStartDate())
+                .estimatedCompletionDate(task.getEstimatedCompletionDate())
+                .actualCompletionDate(task.getActualCompletionDate())
+                .percentComplete(task.getPercentComplete())
+                .taskStatus(task.getTaskStatus())
+                .notes(task.getNotes())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .isBlocked(task.getIsBlocked())
+                .blockingReason(task.getBlockingReason())
+                .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class SimulationRequest {
+        private Integer horizonDays;
+        private List<SimulationChange> changes;
+    }
+
+    /**
+     * One hypothetical edit: identify the task by assignmentId, or by issueKey (plus
+     * fromAssignee when several people share it), then set any of the remaining fields
+     */
+    @Data
+    @NoArgsConstructor
+    public static class SimulationChange {
+        private Long assignmentId;
+        private String issueKey;
+        private String fromAssignee;
+        private String toAssignee;
+        private LocalDate startDate;
+        private LocalDate estimatedCompletionDate;
+        private Integer remainingHours;
+    }
+
+    @Data
+    public static class SimulationResult {
+        private final LocalDate today;
+        private final LocalDate horizonEnd;
+        private final int changedTasks;
+        private final List<String> errors;
+        private final List<MemberImpact> members;
+        private final long elapsedMs;
+    }
+
+    @Data
+    public static class MemberImpact {
+        private final String memberName;
+        private final String role;
+        private final String team;
+        private final MemberForecast before;
+        private final MemberForecast after;
+    }
+
+    @Data
+    public static class MemberForecast {
+        private final int totalRemainingHours;
+        private final int activeTasks;
+        private final boolean overloaded;
+        private final double utilizationPercentage;
+        private final LocalDate estimatedAvailableDate;
+        private final Map<LocalDate, Double> workloadForecast;
+    }
+}
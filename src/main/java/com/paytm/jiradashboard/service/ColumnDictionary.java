@@ -0,0 +1,66 @@
+package com.paytm.jiradashboard.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only string dictionary used to encode repeated column values as ints
+ */
+public class ColumnDictionary {
+
+    public static final int MISSING = -1;
+
+    private final Map<String, Integer> ids;
+    private final List<String> values;
+
+    public ColumnDictionary() {
+        this.ids = new HashMap<>();
+        this.values = new ArrayList<>();
+    }
+
+    private ColumnDictionary(ColumnDictionary other) {
+        this.ids = new HashMap<>(other.ids);
+        this.values = new ArrayList<>(other.values);
+    }
+
+    /**
+     * Get the id for a value, assigning a new one if it has not been seen yet
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return MISSING;
+        }
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = values.size();
+            ids.put(value, id);
+            values.add(value);
+        }
+        return id;
+    }
+
+    /**
+     * Get the id for a value without assigning one (MISSING if unknown)
+     */
+    public int idOf(String value) {
+        if (value == null) {
+            return MISSING;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : MISSING;
+    }
+
+    public String decode(int id) {
+        return id == MISSING ? null : values.get(id);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public ColumnDictionary copy() {
+        return new ColumnDictionary(this);
+    }
+}
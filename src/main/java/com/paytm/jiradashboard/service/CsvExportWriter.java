@@ -0,0 +1,87 @@
+package com.paytm.jiradashboard.service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes CSV rows straight to an output stream, optionally gzip-compressed.
+ * Values are escaped while they are written, so no per-row or per-file strings are built.
+ */
+public class CsvExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+
+    private CsvExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static CsvExportWriter open(OutputStream out, boolean gzip) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        return new CsvExportWriter(new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    public void writeRow(List<?> row) throws IOException {
+        for (int i = 0; i < row.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = row.get(i);
+            if (value != null) {
+                writeValue(value.toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Row callback for generators that cannot throw checked exceptions
+     */
+    public void writeRowUnchecked(List<?> row) {
+        try {
+            writeRow(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(String value) throws IOException {
+        // Wrap in quotes and double embedded quotes if the value contains a comma, quote or line break
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flushes the buffer and, when compressing, writes the gzip trailer
+        writer.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.paytm.jiradashboard.service;
 
+import com.paytm.jiradashboard.event.IssuesSyncedEvent;
 import com.paytm.jiradashboard.model.IssueStatus;
 import com.paytm.jiradashboard.model.JiraIssue;
 import com.paytm.jiradashboard.repository.JiraIssueRepository;
@@ -7,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +29,12 @@ public class DashboardService {
     @Autowired
     private EmailService emailService;
     
+    @Autowired
+    private IssueColumnStore issueColumnStore;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     @Value("${app.auto-sync.enabled:false}")
     private boolean autoSyncEnabled;
     
@@ -40,6 +48,8 @@ public class DashboardService {
                 jiraIssueRepository.save(issue);
             }
             
+            eventPublisher.publishEvent(new IssuesSyncedEvent(issues));
+            
             log.info("Successfully synced {} issues to database", issues.size());
         } catch (Exception e) {
             log.error("Error syncing issues from Jira", e);
@@ -82,7 +92,7 @@ public class DashboardService {
         summary.put("sprintSummary", sprintSummary);
         
         summary.put("lastSyncTime", LocalDateTime.now());
-        summary.put("totalIssues", jiraIssueRepository.count());
+        summary.put("totalIssues", issueColumnStore.snapshot().size());
         
         return summary;
     }
@@ -98,7 +108,10 @@ public class DashboardService {
             IssueStatus.IN_UAT
         );
         
-        List<JiraIssue> activeIssues = jiraIssueRepository.findByAssigneeAndStatusIn(assignee, activeStatuses);
+        List<JiraIssue> activeIssues = issueColumnStore.index().query()
+                .assigneeIn(List.of(assignee))
+                .statusIn(activeStatuses)
+                .list();
         summary.put("activeIssues", activeIssues);
         
         Map<IssueStatus, Long> statusCounts = activeIssues.stream()
@@ -122,7 +135,10 @@ public class DashboardService {
             IssueStatus.IN_UAT
         );
         
-        List<JiraIssue> projectIssues = jiraIssueRepository.findByProjectKeyAndStatusIn(projectKey, activeStatuses);
+        List<JiraIssue> projectIssues = issueColumnStore.index().query()
+                .projectIn(List.of(projectKey))
+                .statusIn(activeStatuses)
+                .list();
         summary.put("projectIssues", projectIssues);
         
         Map<IssueStatus, Long> statusCounts = projectIssues.stream()
@@ -137,18 +153,15 @@ public class DashboardService {
     }
     
     private Map<IssueStatus, Long> getStatusBreakdown() {
-        return jiraIssueRepository.findAll().stream()
-                .collect(Collectors.groupingBy(JiraIssue::getStatus, Collectors.counting()));
+        return issueColumnStore.snapshot().countByStatus();
     }
     
     private Map<String, Long> getAssigneeBreakdown() {
-        return jiraIssueRepository.findAll().stream()
-                .collect(Collectors.groupingBy(JiraIssue::getAssignee, Collectors.counting()));
+        return issueColumnStore.snapshot().countByAssignee();
     }
     
     private Map<String, Long> getProjectBreakdown() {
-        return jiraIssueRepository.findAll().stream()
-                .collect(Collectors.groupingBy(JiraIssue::getProjectKey, Collectors.counting()));
+        return issueColumnStore.snapshot().countByProject();
     }
     
     private Map<String, Object> getStatusChanges(LocalDateTime since) {
@@ -167,32 +180,30 @@ public class DashboardService {
     private Map<String, Object> getSprintSummary() {
         Map<String, Object> sprintSummary = new HashMap<>();
         
+        IssueColumns columns = issueColumnStore.snapshot();
+        
         // Group issues by sprint
-        Map<String, List<JiraIssue>> sprintIssues = jiraIssueRepository.findAll().stream()
-                .filter(issue -> issue.getSprint() != null && !issue.getSprint().isEmpty())
-                .collect(Collectors.groupingBy(JiraIssue::getSprint));
+        Map<String, List<JiraIssue>> sprintIssues = columns.groupBySprint();
         
         sprintSummary.put("sprintIssues", sprintIssues);
         
-        // Calculate sprint metrics
+        // Calculate sprint metrics from the per-sprint status tallies
+        long[][] sprintStatusCounts = columns.countBySprintAndStatus();
         Map<String, Map<String, Object>> sprintMetrics = new HashMap<>();
-        for (Map.Entry<String, List<JiraIssue>> entry : sprintIssues.entrySet()) {
-            String sprint = entry.getKey();
-            List<JiraIssue> issues = entry.getValue();
+        for (int sprintId = 0; sprintId < sprintStatusCounts.length; sprintId++) {
+            long[] counts = sprintStatusCounts[sprintId];
+            long total = Arrays.stream(counts).sum();
+            if (total == 0) {
+                continue;
+            }
             
             Map<String, Object> metrics = new HashMap<>();
-            metrics.put("totalIssues", issues.size());
-            metrics.put("completedIssues", issues.stream()
-                    .filter(issue -> issue.getStatus() == IssueStatus.DONE || issue.getStatus() == IssueStatus.CLOSED)
-                    .count());
-            metrics.put("inProgressIssues", issues.stream()
-                    .filter(issue -> issue.getStatus() == IssueStatus.IN_PROGRESS)
-                    .count());
-            metrics.put("qaIssues", issues.stream()
-                    .filter(issue -> issue.getStatus() == IssueStatus.IN_QA || issue.getStatus() == IssueStatus.QA_PASSED)
-                    .count());
+            metrics.put("totalIssues", (int) total);
+            metrics.put("completedIssues", counts[IssueStatus.DONE.ordinal()] + counts[IssueStatus.CLOSED.ordinal()]);
+            metrics.put("inProgressIssues", counts[IssueStatus.IN_PROGRESS.ordinal()]);
+            metrics.put("qaIssues", counts[IssueStatus.IN_QA.ordinal()] + counts[IssueStatus.QA_PASSED.ordinal()]);
             
-            sprintMetrics.put(sprint, metrics);
+            sprintMetrics.put(columns.getSprints().decode(sprintId), metrics);
         }
         
         sprintSummary.put("sprintMetrics", sprintMetrics);
@@ -268,10 +279,8 @@ public class DashboardService {
         Map<String, Object> summary = new HashMap<>();
         
         // Get all unique assignees
-        List<String> allAssignees = jiraIssueRepository.findAll().stream()
-                .map(JiraIssue::getAssignee)
+        List<String> allAssignees = issueColumnStore.snapshot().distinctAssignees().stream()
                 .filter(assignee -> !assignee.equals("Unassigned"))
-                .distinct()
                 .sorted()
                 .collect(Collectors.toList());
         
@@ -1,15 +1,20 @@
 package com.paytm.jiradashboard.service;
 
+import com.paytm.jiradashboard.event.AssignmentsChangedEvent;
+import com.paytm.jiradashboard.event.TeamMembersChangedEvent;
 import com.paytm.jiradashboard.model.*;
 import com.paytm.jiradashboard.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +23,7 @@ public class DataInitializationService {
     
     private final TeamMemberRepository teamMemberRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @EventListener(ApplicationReadyEvent.class)
     public void initializeSampleData() {
@@ -59,6 +65,7 @@ public class DataInitializationService {
         if (!sampleMembers.isEmpty()) {
             log.info("Removing {} sample team members", sampleMembers.size());
             teamMemberRepository.deleteAll(sampleMembers);
+            eventPublisher.publishEvent(new TeamMembersChangedEvent(sampleMembers));
         }
         
         // Remove sample task assignments (those with fake COP- keys)
@@ -69,6 +76,7 @@ public class DataInitializationService {
         if (!sampleAssignments.isEmpty()) {
             log.info("Removing {} sample task assignments", sampleAssignments.size());
             taskAssignmentRepository.deleteAll(sampleAssignments);
+            eventPublisher.publishEvent(new AssignmentsChangedEvent(assigneesOf(sampleAssignments)));
         }
     }
     
@@ -140,7 +148,7 @@ public class DataInitializationService {
                 .build()
         );
         
-        teamMemberRepository.saveAll(members);
+        eventPublisher.publishEvent(new TeamMembersChangedEvent(teamMemberRepository.saveAll(members)));
     }
     
     private void initializeTaskAssignments() {
@@ -246,5 +254,14 @@ public class DataInitializationService {
         );
         
         taskAssignmentRepository.saveAll(assignments);
+        eventPublisher.publishEvent(new AssignmentsChangedEvent(assigneesOf(assignments)));
+    }
+    
+    private static Set<String> assigneesOf(List<TaskAssignment> assignments) {
+        Set<String> assignees = new HashSet<>();
+        for (TaskAssignment assignment : assignments) {
+            assignees.add(assignment.getAssigneeName());
+        }
+        return assignees;
     }
 }
@@ -0,0 +1,218 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.model.IssueStatus;
+import com.paytm.jiradashboard.model.JiraIssue;
+import com.paytm.jiradashboard.model.TeamMember;
+import com.paytm.jiradashboard.repository.JiraIssueRepository;
+import com.paytm.jiradashboard.repository.TeamMemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Probabilistic completion dates for a member's queue or an epic. Daily throughput is sampled
+ * from the issues the people involved resolved over the history window, counted per working day.
+ * Monte Carlo trials run on a dedicated fork-join pool. Historical cycle times are reported
+ * alongside for context.
+ */
+@Service
+@Slf4j
+public class DeliveryForecastService {
+
+    private final JiraIssueRepository jiraIssueRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final CapacityPlanningService capacityPlanningService;
+    private final WorkingCalendarService workingCalendarService;
+    private final AssigneeDirectory assigneeDirectory;
+    private final ForkJoinPool pool;
+
+    @Value("${app.forecast.trials:10000}")
+    private int defaultTrials;
+
+    @Value("${app.forecast.max-trials:100000}")
+    private int maxTrials;
+
+    @Value("${app.forecast.history-days:90}")
+    private int historyDays;
+
+    public DeliveryForecastService(JiraIssueRepository jiraIssueRepository,
+                                   TeamMemberRepository teamMemberRepository,
+                                   CapacityPlanningService capacityPlanningService,
+                                   WorkingCalendarService workingCalendarService,
+                                   AssigneeDirectory assigneeDirectory,
+                                   @Value("${app.forecast.parallelism:0}") int parallelism) {
+        this.jiraIssueRepository = jiraIssueRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.capacityPlanningService = capacityPlanningService;
+        this.workingCalendarService = workingCalendarService;
+        this.assigneeDirectory = assigneeDirectory;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                forkJoinPool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("delivery-forecast-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Forecast for the member's active assignments from their own throughput, or empty when
+     * the member is unknown
+     */
+    public Optional<ForecastResult> forecastMember(String memberName, Integer trials, Long seed) {
+        Optional<TeamMember> member = teamMemberRepository.findByName(assigneeDirectory.lookup(memberName)
+                .map(AssigneeDirectory.Entry::getName)
+                .orElse(memberName));
+        if (member.isEmpty()) {
+            return Optional.empty();
+        }
+        int remaining = capacityPlanningService.getActiveTasks(member.get().getName()).size();
+        return Optional.of(forecast("member", member.get().getName(), remaining, List.of(member.get().getName()),
+                workingCalendarService.calendarFor(member.get()), trials, seed));
+    }
+
+    /**
+     * Forecast for the epic's unresolved issues from the combined throughput of everyone
+     * assigned to the epic, or empty when no issues link to it
+     */
+    public Optional<ForecastResult> forecastEpic(String epicKey, Integer trials, Long seed) {
+        List<JiraIssue> issues = jiraIssueRepository.findByEpicLink(epicKey);
+        if (issues.isEmpty()) {
+            return Optional.empty();
+        }
+        int remaining = 0;
+        Set<String> assignees = new LinkedHashSet<>();
+        for (JiraIssue issue : issues) {
+            if (!isResolved(issue)) {
+                remaining++;
+            }
+            if (issue.getAssignee() != null && !issue.getAssignee().equals("Unassigned")) {
+                assignees.add(issue.getAssignee());
+            }
+        }
+        return Optional.of(forecast("epic", epicKey, remaining, assignees,
+                workingCalendarService.defaultCalendar(), trials, seed));
+    }
+
+    private ForecastResult forecast(String type, String subject, int remainingItems, Collection<String> people,
+                                    WorkingCalendar calendar, Integer requestedTrials, Long requestedSeed) {
+        long started = System.nanoTime();
+        // Requested trial counts are capped so one request cannot monopolise the forecast pool
+        int trials = Math.min(requestedTrials != null && requestedTrials > 0 ? requestedTrials : defaultTrials, maxTrials);
+        long seed = requestedSeed != null ? requestedSeed : ThreadLocalRandom.current().nextLong();
+        LocalDate today = LocalDate.now();
+        LocalDate historyStart = today.minusDays(historyDays);
+
+        // Working days in the history window, excluding today, which is still in progress
+        long firstDay = historyStart.toEpochDay();
+        int windowDays = historyDays;
+        int[] slotOfDay = new int[windowDays];
+        int slots = 0;
+        for (int offset = 0; offset < windowDays; offset++) {
+            slotOfDay[offset] = calendar.isWorkingDay(firstDay + offset) ? slots++ : -1;
+        }
+        // Resolutions on days off count towards the next working day, or the last one in the window
+        int next = Math.max(slots - 1, 0);
+        for (int offset = windowDays - 1; offset >= 0; offset--) {
+            if (slotOfDay[offset] >= 0) {
+                next = slotOfDay[offset];
+            } else {
+                slotOfDay[offset] = next;
+            }
+        }
+
+        Set<String> keys = assigneeDirectory.keysOf(people);
+        int[] dailyThroughput = new int[Math.max(slots, 1)];
+        int resolved = 0;
+        // Only issues with a created date give a cycle time, so this can hold fewer than resolved
+        List<Integer> cycleTimes = new ArrayList<>();
+        for (JiraIssue issue : jiraIssueRepository.findResolvedSince(historyStart.atStartOfDay())) {
+            if (!assigneeDirectory.matches(issue.getAssignee(), keys)) {
+                continue;
+            }
+            long offset = issue.getResolved().toLocalDate().toEpochDay() - firstDay;
+            if (offset < 0 || offset >= windowDays || slots == 0) {
+                continue;
+            }
+            dailyThroughput[slotOfDay[(int) offset]]++;
+            resolved++;
+            if (issue.getCreated() != null) {
+                cycleTimes.add(calendar.countWorkingDays(issue.getCreated().toLocalDate(), issue.getResolved().toLocalDate()));
+            }
+        }
+
+        ForecastResult result = new ForecastResult(type, subject, remainingItems, trials, historyDays, slots);
+        result.setResolvedInHistory(resolved);
+        result.setAverageDailyThroughput(slots > 0 ? (double) resolved / slots : 0);
+        if (!cycleTimes.isEmpty()) {
+            Collections.sort(cycleTimes);
+            result.setCycleTimeP50WorkingDays(cycleTimes.get((int) Math.ceil(0.50 * cycleTimes.size()) - 1));
+            result.setCycleTimeP85WorkingDays(cycleTimes.get((int) Math.ceil(0.85 * cycleTimes.size()) - 1));
+        }
+
+        if (remainingItems == 0) {
+            result.setP50(today);
+            result.setP85(today);
+            result.setP95(today);
+        } else if (resolved == 0) {
+            result.setMessage("No issues resolved in the last " + historyDays + " days to forecast from");
+        } else {
+            int[] histogram = MonteCarloForecaster.run(pool, dailyThroughput, remainingItems, trials, seed);
+            result.setP50WorkingDays(MonteCarloForecaster.percentile(histogram, trials, 0.50));
+            result.setP85WorkingDays(MonteCarloForecaster.percentile(histogram, trials, 0.85));
+            result.setP95WorkingDays(MonteCarloForecaster.percentile(histogram, trials, 0.95));
+            result.setP50(toDate(calendar, today, result.getP50WorkingDays()));
+            result.setP85(toDate(calendar, today, result.getP85WorkingDays()));
+            result.setP95(toDate(calendar, today, result.getP95WorkingDays()));
+            result.setTrialsBeyondHorizon(histogram[MonteCarloForecaster.MAX_WORKING_DAYS + 1]);
+        }
+        result.setElapsedMs((System.nanoTime() - started) / 1_000_000);
+        log.info("Forecast {} {}: {} items, {} trials, P85 {} in {} ms", type, subject, remainingItems, trials,
+                result.getP85(), result.getElapsedMs());
+        return result;
+    }
+
+    private static LocalDate toDate(WorkingCalendar calendar, LocalDate today, int workingDays) {
+        return workingDays < 0 ? null : calendar.addWorkingDays(today, workingDays);
+    }
+
+    private static boolean isResolved(JiraIssue issue) {
+        return issue.getResolved() != null || issue.getStatus() == IssueStatus.DONE || issue.getStatus() == IssueStatus.CLOSED;
+    }
+
+    @Data
+    public static class ForecastResult {
+        private final String type;
+        private final String subject;
+        private final int remainingItems;
+        private final int trials;
+        private final int historyDays;
+        private final int historyWorkingDays;
+        private int resolvedInHistory;
+        private double averageDailyThroughput;
+        private Integer cycleTimeP50WorkingDays;
+        private Integer cycleTimeP85WorkingDays;
+        private Integer p50WorkingDays;
+        private Integer p85WorkingDays;
+        private Integer p95WorkingDays;
+        private LocalDate p50;
+        private LocalDate p85;
+        private LocalDate p95;
+        private int trialsBeyondHorizon;
+        private String message;
+        private long elapsedMs;
+    }
+}
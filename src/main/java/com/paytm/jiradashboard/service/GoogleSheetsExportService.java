@@ -1,9 +1,11 @@
 package com.paytm.jiradashboard.service;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.paytm.jiradashboard.model.*;
 import com.paytm.jiradashboard.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -11,6 +13,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.WeekFields;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,25 +26,37 @@ public class GoogleSheetsExportService {
     private final JiraIssueRepository jiraIssueRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
+    private final IssueColumnStore issueColumnStore;
+    private final AssigneeDirectory assigneeDirectory;
+    
+    private static final Set<IssueStatus> ACTIVE_STATUSES =
+            EnumSet.of(IssueStatus.TO_DO, IssueStatus.IN_PROGRESS, IssueStatus.IN_REVIEW);
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMMM");
+    private static final DateTimeFormatter WEEK_FORMAT = DateTimeFormatter.ofPattern("w");
+    
+    @Value("${app.capacity.target-members:}")
+    private String targetMembers; // Semicolon-separated, since Jira names contain commas
 
     public CapacityTrackingSheet generateCapacityTrackingSheet() {
         log.info("Generating capacity tracking sheet from Jira data...");
         
         // Get all active issues and team members
-        List<JiraIssue> activeIssues = jiraIssueRepository.findByStatusIn(
-                Arrays.asList(IssueStatus.TO_DO, IssueStatus.IN_PROGRESS, IssueStatus.IN_REVIEW));
+        List<JiraIssue> activeIssues = issueColumnStore.index().query()
+                .statusIn(ACTIVE_STATUSES)
+                .list();
         List<TeamMember> teamMembers = teamMemberRepository.findByIsActiveTrue();
         List<TaskAssignment> assignments = taskAssignmentRepository.findAll();
+        LocalDate today = LocalDate.now();
         
         // Generate timeline weeks
-        List<WeekColumn> timelineWeeks = generateTimelineWeeks(12); // Next 12 weeks
+        WeekColumn[] timelineWeeks = generateTimelineWeeks(today, 12); // Next 12 weeks
         
         // Group by POD/Team and Lead
-        Map<String, List<CapacityRow>> groupedData = generateCapacityRows(activeIssues, assignments, teamMembers, timelineWeeks);
+        Map<String, List<CapacityRow>> groupedData = generateCapacityRows(activeIssues, assignments, teamMembers, timelineWeeks, today);
         
         return CapacityTrackingSheet.builder()
                 .title("OE_Payments_Task_Tracker - Ongoing")
-                .generatedDate(LocalDate.now())
+                .generatedDate(today)
                 .timelineWeeks(timelineWeeks)
                 .teamData(groupedData)
                 .build();
@@ -49,14 +65,15 @@ public class GoogleSheetsExportService {
     public CapacityTrackingSheet generateCapacityTrackingSheetByDateRange(LocalDate startDate, LocalDate endDate) {
         log.info("Generating capacity tracking sheet from Jira data for date range: {} to {}", startDate, endDate);
         
-        // Define the list of specific team members to include
-        List<String> targetMembers = Arrays.asList(
-            "Srivastava, Praharsh", "Acharya, Ashutosh", "Puri, Prince1", "Agrawal, Oshi",
-            "Agarwal, Amit Kumar", "Sharma, Abhay6", "Singh, Navjot6", "Mittal, Pratham",
-            "Verma, Swati1", "Jaiswal, Anand1", "Yadav Dhruvkant", "Kalsi, Sanya",
-            "Kashif, Syed Mohd", "Verma, Tanish", "Garg, Ankit", "Sharma, siddharth5",
-            "Jain, Mayank5", "Tiiwari, Vineet2", "Jain, Atishay2", "Mann, Tushar", "Kumar, Puneet6"
-        );
+        // Resolve the configured team members through the assignee directory, so Jira display
+        // names ("Mann, Tushar") and team member names ("Tushar Mann") both match; an empty list includes everyone
+        Set<String> targetKeys = assigneeDirectory.keysOf(Arrays.stream(targetMembers.split(";"))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toList()));
+        Predicate<String> isTarget = targetKeys.isEmpty()
+                ? name -> true
+                : name -> assigneeDirectory.matches(name, targetKeys);
         
         try {
             // Fetch fresh data directly from Jira API
@@ -64,22 +81,23 @@ public class GoogleSheetsExportService {
             log.info("Fetched {} issues from Jira API for capacity tracking", allIssues.size());
             
             // Filter by target members and active statuses
-            List<JiraIssue> activeIssues = allIssues.stream()
-                    .filter(issue -> Arrays.asList(IssueStatus.TO_DO, IssueStatus.IN_PROGRESS, IssueStatus.IN_REVIEW)
-                            .contains(issue.getStatus()))
-                    .filter(issue -> targetMembers.contains(issue.getAssignee()))
-                    .collect(Collectors.toList());
+            List<JiraIssue> activeIssues = new ArrayList<>();
+            for (JiraIssue issue : allIssues) {
+                if (ACTIVE_STATUSES.contains(issue.getStatus()) && isTarget.test(issue.getAssignee())) {
+                    activeIssues.add(issue);
+                }
+            }
             
                 log.info("Filtered to {} active issues for target members", activeIssues.size());
             
             // Filter team members for only target members (still from DB as this is configuration data)
             List<TeamMember> teamMembers = teamMemberRepository.findByIsActiveTrue().stream()
-                    .filter(member -> targetMembers.contains(member.getName()))
+                    .filter(member -> isTarget.test(member.getName()))
                     .collect(Collectors.toList());
             
             // Filter assignments for only target members and date range (still from DB as this is internal tracking)
             List<TaskAssignment> assignments = taskAssignmentRepository.findAll().stream()
-                    .filter(assignment -> targetMembers.contains(assignment.getAssigneeName()))
+                    .filter(assignment -> isTarget.test(assignment.getAssigneeName()))
                     .filter(assignment -> {
                         if (assignment.getCreatedAt() != null) {
                             LocalDate createdDate = assignment.getCreatedAt().toLocalDate();
@@ -90,14 +108,15 @@ public class GoogleSheetsExportService {
                     .collect(Collectors.toList());
             
             // Generate timeline weeks
-            List<WeekColumn> timelineWeeks = generateTimelineWeeks(12);
+            LocalDate today = LocalDate.now();
+            WeekColumn[] timelineWeeks = generateTimelineWeeks(today, 12);
             
             // Group by POD/Team and Lead
-            Map<String, List<CapacityRow>> groupedData = generateCapacityRows(activeIssues, assignments, teamMembers, timelineWeeks);
+            Map<String, List<CapacityRow>> groupedData = generateCapacityRows(activeIssues, assignments, teamMembers, timelineWeeks, today);
             
             return CapacityTrackingSheet.builder()
                     .title("OE_Payments_Task_Tracker - LIVE DATA (" + startDate + " to " + endDate + ")")
-                    .generatedDate(LocalDate.now())
+                    .generatedDate(today)
                     .timelineWeeks(timelineWeeks)
                     .teamData(groupedData)
                     .build();
@@ -108,19 +127,22 @@ public class GoogleSheetsExportService {
         }
     }
 
-    private List<WeekColumn> generateTimelineWeeks(int weekCount) {
-        List<WeekColumn> weeks = new ArrayList<>();
-        LocalDate startDate = LocalDate.now().with(WeekFields.ISO.dayOfWeek(), 1); // Start of current week
+    /**
+     * Week columns shared by every row of a sheet; each row's weekly status is indexed by
+     * position in this array, so labels are formatted once per sheet
+     */
+    private WeekColumn[] generateTimelineWeeks(LocalDate today, int weekCount) {
+        WeekColumn[] weeks = new WeekColumn[weekCount];
+        LocalDate startDate = today.with(WeekFields.ISO.dayOfWeek(), 1); // Start of current week
         
         for (int i = 0; i < weekCount; i++) {
             LocalDate weekStart = startDate.plusWeeks(i);
-            WeekColumn week = WeekColumn.builder()
-                    .monthName(weekStart.format(DateTimeFormatter.ofPattern("MMMM")))
-                    .weekNumber("W" + weekStart.format(DateTimeFormatter.ofPattern("w")))
+            weeks[i] = WeekColumn.builder()
+                    .monthName(weekStart.format(MONTH_FORMAT))
+                    .weekNumber("W" + weekStart.format(WEEK_FORMAT))
                     .startDate(weekStart)
                     .endDate(weekStart.plusDays(6))
                     .build();
-            weeks.add(week);
         }
         
         return weeks;
@@ -130,7 +152,8 @@ public class GoogleSheetsExportService {
             List<JiraIssue> issues, 
             List<TaskAssignment> assignments, 
             List<TeamMember> teamMembers,
-            List<WeekColumn> timelineWeeks) {
+            WeekColumn[] timelineWeeks,
+            LocalDate today) {
         
         Map<String, List<CapacityRow>> teamData = new LinkedHashMap<>();
         
@@ -138,6 +161,27 @@ public class GoogleSheetsExportService {
         Map<String, List<TeamMember>> membersByTeam = teamMembers.stream()
                 .collect(Collectors.groupingBy(tm -> tm.getTeam() != null ? tm.getTeam() : "Unassigned"));
         
+        // One pass over each input: issues by assignee, and assignments by assignee then issue key
+        // (the first assignment for a pair wins, as before). Assignees are keyed through the
+        // directory, the same way the target filter matches them, so "Mann, Tushar" issues
+        // land on the "Tushar Mann" member.
+        Map<String, List<JiraIssue>> issuesByAssignee = new HashMap<>();
+        for (JiraIssue issue : issues) {
+            if (issue.getAssignee() != null) {
+                issuesByAssignee.computeIfAbsent(assigneeDirectory.keyOf(issue.getAssignee()), key -> new ArrayList<>())
+                        .add(issue);
+            }
+        }
+        Map<String, String> pipelines = generateTasksPipelines(today);
+        byte[] availableWeeks = createAvailableWeeklyStatus(timelineWeeks); // Read-only, shared by placeholder rows
+        Map<String, Map<String, TaskAssignment>> assignmentsByAssignee = new HashMap<>();
+        for (TaskAssignment assignment : assignments) {
+            if (assignment.getAssigneeName() != null) {
+                assignmentsByAssignee.computeIfAbsent(assigneeDirectory.keyOf(assignment.getAssigneeName()), key -> new HashMap<>())
+                        .putIfAbsent(assignment.getIssueKey(), assignment);
+            }
+        }
+        
         for (Map.Entry<String, List<TeamMember>> teamEntry : membersByTeam.entrySet()) {
             String teamName = teamEntry.getKey();
             List<TeamMember> teamMembersList = teamEntry.getValue();
@@ -146,22 +190,17 @@ public class GoogleSheetsExportService {
             
             for (TeamMember member : teamMembersList) {
                 // Get tasks for this team member
-                List<JiraIssue> memberIssues = issues.stream()
-                        .filter(issue -> issue.getAssignee().equals(member.getName()))
-                        .collect(Collectors.toList());
-                
-                List<TaskAssignment> memberAssignments = assignments.stream()
-                        .filter(assignment -> assignment.getAssigneeName().equals(member.getName()))
-                        .collect(Collectors.toList());
+                String memberKey = assigneeDirectory.keyOf(member.getName());
+                List<JiraIssue> memberIssues = issuesByAssignee.getOrDefault(memberKey, List.of());
+                Map<String, TaskAssignment> memberAssignments =
+                        assignmentsByAssignee.getOrDefault(memberKey, Collections.emptyMap());
                 
                 // Create rows for each task
                 for (JiraIssue issue : memberIssues) {
-                    TaskAssignment assignment = memberAssignments.stream()
-                            .filter(a -> a.getIssueKey().equals(issue.getIssueKey()))
-                            .findFirst()
-                            .orElse(null);
+                    TaskAssignment assignment = memberAssignments.get(issue.getIssueKey());
                     
-                    CapacityRow row = createCapacityRow(issue, assignment, member, timelineWeeks);
+                    CapacityRow row = createCapacityRow(issue, assignment, member,
+                            pipelines.getOrDefault(memberKey, ""), timelineWeeks, today);
                     teamRows.add(row);
                 }
                 
@@ -179,7 +218,7 @@ public class GoogleSheetsExportService {
                             .endDate(null)
                             .qaDrop(null)
                             .tasksInPipeline("")
-                            .weeklyStatus(createAvailableWeeklyStatus(timelineWeeks))
+                            .weeklyStatus(availableWeeks)
                             .build();
                     teamRows.add(emptyRow);
                 }
@@ -191,17 +230,18 @@ public class GoogleSheetsExportService {
         return teamData;
     }
 
-    private CapacityRow createCapacityRow(JiraIssue issue, TaskAssignment assignment, TeamMember member, List<WeekColumn> timelineWeeks) {
+    private CapacityRow createCapacityRow(JiraIssue issue, TaskAssignment assignment, TeamMember member,
+                                          String tasksInPipeline, WeekColumn[] timelineWeeks, LocalDate today) {
         // Calculate task duration
         LocalDate startDate = assignment != null && assignment.getStartDate() != null ? 
-                assignment.getStartDate() : LocalDate.now();
+                assignment.getStartDate() : today;
         LocalDate endDate = assignment != null && assignment.getEstimatedCompletionDate() != null ? 
                 assignment.getEstimatedCompletionDate() : startDate.plusDays(5);
         
         int manDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
         
         // Generate weekly status
-        Map<String, TaskStatus> weeklyStatus = generateWeeklyStatus(startDate, endDate, issue.getStatus(), timelineWeeks);
+        byte[] weeklyStatus = generateWeeklyStatus(startDate, endDate, issue.getStatus(), timelineWeeks, today);
         
         return CapacityRow.builder()
                 .pod(member.getTeam() != null ? member.getTeam() : "Unassigned")
@@ -214,46 +254,47 @@ public class GoogleSheetsExportService {
                 .startDate(startDate)
                 .endDate(endDate)
                 .qaDrop(endDate) // Assume QA drop same as end date
-                .tasksInPipeline(generateTasksPipeline(member.getName()))
+                .tasksInPipeline(tasksInPipeline)
                 .weeklyStatus(weeklyStatus)
                 .build();
     }
 
-    private Map<String, TaskStatus> generateWeeklyStatus(LocalDate taskStart, LocalDate taskEnd, IssueStatus issueStatus, List<WeekColumn> timelineWeeks) {
-        Map<String, TaskStatus> weeklyStatus = new HashMap<>();
+    private byte[] generateWeeklyStatus(LocalDate taskStart, LocalDate taskEnd, IssueStatus issueStatus,
+                                        WeekColumn[] timelineWeeks, LocalDate today) {
+        byte[] weeklyStatus = new byte[timelineWeeks.length];
+        LocalDate nearFutureEnd = today.plusDays(7);
         
-        for (WeekColumn week : timelineWeeks) {
-            String weekKey = week.getMonthName() + "_" + week.getWeekNumber();
+        for (int i = 0; i < timelineWeeks.length; i++) {
+            WeekColumn week = timelineWeeks[i];
+            TaskStatus status;
             
             // Check if task overlaps with this week
             boolean overlaps = !(taskEnd.isBefore(week.getStartDate()) || taskStart.isAfter(week.getEndDate()));
             
             if (overlaps) {
                 // Determine status based on task progress and current date
-                if (week.getEndDate().isBefore(LocalDate.now())) {
+                if (week.getEndDate().isBefore(today)) {
                     // Past weeks - assume completed if task is done
-                    weeklyStatus.put(weekKey, issueStatus == IssueStatus.DONE ? TaskStatus.COMPLETED : TaskStatus.IN_PROGRESS);
-                } else if (week.getStartDate().isAfter(LocalDate.now().plusDays(7))) {
+                    status = issueStatus == IssueStatus.DONE ? TaskStatus.COMPLETED : TaskStatus.IN_PROGRESS;
+                } else if (week.getStartDate().isAfter(nearFutureEnd)) {
                     // Future weeks - planned
-                    weeklyStatus.put(weekKey, TaskStatus.PLANNED);
+                    status = TaskStatus.PLANNED;
                 } else {
                     // Current/near future weeks - in progress
-                    weeklyStatus.put(weekKey, mapIssueStatusToTaskStatus(issueStatus));
+                    status = mapIssueStatusToTaskStatus(issueStatus);
                 }
             } else {
-                weeklyStatus.put(weekKey, TaskStatus.NOT_APPLICABLE);
+                status = TaskStatus.NOT_APPLICABLE;
             }
+            weeklyStatus[i] = (byte) status.ordinal();
         }
         
         return weeklyStatus;
     }
 
-    private Map<String, TaskStatus> createAvailableWeeklyStatus(List<WeekColumn> timelineWeeks) {
-        Map<String, TaskStatus> weeklyStatus = new HashMap<>();
-        for (WeekColumn week : timelineWeeks) {
-            String weekKey = week.getMonthName() + "_" + week.getWeekNumber();
-            weeklyStatus.put(weekKey, TaskStatus.AVAILABLE);
-        }
+    private byte[] createAvailableWeeklyStatus(WeekColumn[] timelineWeeks) {
+        byte[] weeklyStatus = new byte[timelineWeeks.length];
+        Arrays.fill(weeklyStatus, (byte) TaskStatus.AVAILABLE.ordinal());
         return weeklyStatus;
     }
 
@@ -282,44 +323,54 @@ public class GoogleSheetsExportService {
         };
     }
 
-    private String generateTasksPipeline(String memberName) {
-        // Get upcoming tasks for this member
-        List<TaskAssignment> upcomingTasks = taskAssignmentRepository.findActiveTasksByAssignee(memberName)
-                .stream()
-                .filter(task -> task.getStartDate() != null && task.getStartDate().isAfter(LocalDate.now()))
-                .limit(3)
-                .collect(Collectors.toList());
-        
-        if (upcomingTasks.isEmpty()) {
-            return "";
+    /**
+     * Up to three upcoming issue keys per assignee key, from one query over active tasks that start
+     * after today. Every row of a member shares the same pipeline string.
+     */
+    private Map<String, String> generateTasksPipelines(LocalDate today) {
+        Map<String, StringJoiner> upcoming = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (TaskAssignment task : taskAssignmentRepository.findActiveTasksStartingAfter(today)) {
+            String assigneeKey = assigneeDirectory.keyOf(task.getAssigneeName());
+            if (counts.merge(assigneeKey, 1, Integer::sum) <= 3) {
+                upcoming.computeIfAbsent(assigneeKey, key -> new StringJoiner(", "))
+                        .add(task.getIssueKey());
+            }
         }
-        
-        return upcomingTasks.stream()
-                .map(task -> task.getIssueKey())
-                .collect(Collectors.joining(", "));
+        Map<String, String> pipelines = new HashMap<>(upcoming.size() * 2);
+        upcoming.forEach((assignee, keys) -> pipelines.put(assignee, keys.toString()));
+        return pipelines;
     }
 
     // Method to convert to Google Sheets format
     public List<List<Object>> convertToSheetsData(CapacityTrackingSheet sheet) {
         List<List<Object>> sheetsData = new ArrayList<>();
+        writeSheetsRows(sheet, sheetsData::add);
+        return sheetsData;
+    }
+
+    // Emits the same rows as convertToSheetsData one at a time, for streaming exports
+    public void writeSheetsRows(CapacityTrackingSheet sheet, Consumer<List<Object>> rows) {
+        WeekColumn[] weeks = sheet.timelineWeeks;
+        int columnCount = 11 + weeks.length * 2;
         
         // Add header row
-        List<Object> headerRow = new ArrayList<>();
+        List<Object> headerRow = new ArrayList<>(columnCount);
         headerRow.addAll(Arrays.asList("POD", "Lead", "Task Type", "Jira Issue Key", "Current Tasks (In Dev)", "Resource"));
         
         // Add timeline columns
-        for (WeekColumn week : sheet.getTimelineWeeks()) {
+        for (WeekColumn week : weeks) {
             headerRow.add(week.getMonthName());
             headerRow.add(week.getWeekNumber());
         }
         
         headerRow.addAll(Arrays.asList("M Days", "Start Date", "End Date", "QA Drop", "Tasks in pipeline"));
-        sheetsData.add(headerRow);
+        rows.accept(headerRow);
         
         // Add data rows
         for (Map.Entry<String, List<CapacityRow>> teamEntry : sheet.getTeamData().entrySet()) {
             for (CapacityRow row : teamEntry.getValue()) {
-                List<Object> dataRow = new ArrayList<>();
+                List<Object> dataRow = new ArrayList<>(columnCount);
                 dataRow.add(row.getPod());
                 dataRow.add(row.getLead());
                 dataRow.add(row.getTaskType());
@@ -328,11 +379,8 @@ public class GoogleSheetsExportService {
                 dataRow.add(row.getResource());
                 
                 // Add weekly status
-                for (WeekColumn week : sheet.getTimelineWeeks()) {
-                    String weekKey = week.getMonthName() + "_" + week.getWeekNumber();
-                    TaskStatus status = row.getWeeklyStatus().get(weekKey);
-                    String statusDisplay = convertTaskStatusToDisplay(status);
-                    dataRow.add(statusDisplay);
+                for (int week = 0; week < weeks.length; week++) {
+                    dataRow.add(convertTaskStatusToDisplay(row.statusAt(week)));
                     dataRow.add(""); // Empty cell for week number column
                 }
                 
@@ -342,30 +390,20 @@ public class GoogleSheetsExportService {
                 dataRow.add(row.getQaDrop() != null ? row.getQaDrop().toString() : "");
                 dataRow.add(row.getTasksInPipeline());
                 
-                sheetsData.add(dataRow);
+                rows.accept(dataRow);
             }
         }
-        
-        return sheetsData;
     }
 
     private String convertTaskStatusToDisplay(TaskStatus status) {
-        if (status == null) return "";
-        return switch (status) {
-            case COMPLETED -> "Y";
-            case IN_PROGRESS -> "Y";
-            case PLANNED -> "Y";
-            case BLOCKED -> "N";
-            case NOT_APPLICABLE -> "";
-            case AVAILABLE -> "Available";
-        };
+        return status != null ? status.display : "";
     }
 
     // Data classes for the sheet structure
     public static class CapacityTrackingSheet {
         public String title;
         public LocalDate generatedDate;
-        public List<WeekColumn> timelineWeeks;
+        public WeekColumn[] timelineWeeks;
         public Map<String, List<CapacityRow>> teamData;
 
         public static CapacityTrackingSheetBuilder builder() {
@@ -385,7 +423,7 @@ public class GoogleSheetsExportService {
                 return this;
             }
 
-            public CapacityTrackingSheetBuilder timelineWeeks(List<WeekColumn> timelineWeeks) {
+            public CapacityTrackingSheetBuilder timelineWeeks(WeekColumn[] timelineWeeks) {
                 sheet.timelineWeeks = timelineWeeks;
                 return this;
             }
@@ -403,7 +441,7 @@ public class GoogleSheetsExportService {
         // Getters
         public String getTitle() { return title; }
         public LocalDate getGeneratedDate() { return generatedDate; }
-        public List<WeekColumn> getTimelineWeeks() { return timelineWeeks; }
+        public List<WeekColumn> getTimelineWeeks() { return Arrays.asList(timelineWeeks); }
         public Map<String, List<CapacityRow>> getTeamData() { return teamData; }
     }
 
@@ -464,7 +502,7 @@ public class GoogleSheetsExportService {
         public LocalDate endDate;
         public LocalDate qaDrop;
         public String tasksInPipeline;
-        public Map<String, TaskStatus> weeklyStatus;
+        public byte[] weeklyStatus; // TaskStatus ordinals, indexed like the sheet's timelineWeeks
 
         public static CapacityRowBuilder builder() {
             return new CapacityRowBuilder();
@@ -528,7 +566,7 @@ public class GoogleSheetsExportService {
                 return this;
             }
 
-            public CapacityRowBuilder weeklyStatus(Map<String, TaskStatus> weeklyStatus) {
+            public CapacityRowBuilder weeklyStatus(byte[] weeklyStatus) {
                 row.weeklyStatus = weeklyStatus;
                 return this;
             }
@@ -550,15 +588,39 @@ public class GoogleSheetsExportService {
         public LocalDate getEndDate() { return endDate; }
         public LocalDate getQaDrop() { return qaDrop; }
         public String getTasksInPipeline() { return tasksInPipeline; }
-        public Map<String, TaskStatus> getWeeklyStatus() { return weeklyStatus; }
+        @JsonIgnore
+        public byte[] getWeeklyStatus() { return weeklyStatus; }
+
+        public TaskStatus statusAt(int week) {
+            return week < weeklyStatus.length ? TaskStatus.VALUES[weeklyStatus[week]] : null;
+        }
+
+        // One status code per week for JSON, e.g. "PPII--"
+        public String getWeeklyStatusCodes() {
+            char[] codes = new char[weeklyStatus.length];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = TaskStatus.VALUES[weeklyStatus[i]].code;
+            }
+            return new String(codes);
+        }
     }
 
     public enum TaskStatus {
-        COMPLETED,     // Y (Green)
-        IN_PROGRESS,   // Y (Green)
-        PLANNED,       // Y (Green)
-        BLOCKED,       // N (Red)
-        NOT_APPLICABLE, // Empty
-        AVAILABLE      // Available text
+        COMPLETED('C', "Y"),       // Green
+        IN_PROGRESS('I', "Y"),     // Green
+        PLANNED('P', "Y"),         // Green
+        BLOCKED('B', "N"),         // Red
+        NOT_APPLICABLE('-', ""),   // Empty
+        AVAILABLE('A', "Available");
+
+        static final TaskStatus[] VALUES = values();
+
+        final char code;
+        final String display;
+
+        TaskStatus(char code, String display) {
+            this.code = code;
+            this.display = display;
+        }
     }
 } 
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -264,37 +265,38 @@ public class GoogleSheetsIntegrationService {
     public Map<String, Object> getSheetSummary() {
         try {
             GoogleSheetsExportService.CapacityTrackingSheet sheet = exportService.generateCapacityTrackingSheet();
-            List<List<Object>> data = exportService.convertToSheetsData(sheet);
-            
-            Map<String, Object> summary = new HashMap<>();
-            summary.put("title", sheet.getTitle());
-            summary.put("generatedDate", sheet.getGeneratedDate());
-            summary.put("totalTeams", sheet.getTeamData().size());
-            summary.put("totalRows", data.size());
-            summary.put("totalColumns", data.get(0).size());
-            summary.put("timelineWeeks", sheet.getTimelineWeeks().size());
-            
-            // Team breakdown
-            Map<String, Integer> teamBreakdown = new HashMap<>();
-            for (Map.Entry<String, List<GoogleSheetsExportService.CapacityRow>> entry : sheet.getTeamData().entrySet()) {
-                teamBreakdown.put(entry.getKey(), entry.getValue().size());
-            }
-            summary.put("teamBreakdown", teamBreakdown);
-            
-            // Timeline info
-            List<String> timeline = sheet.getTimelineWeeks().stream()
-                    .map(week -> week.getMonthName() + " " + week.getWeekNumber())
-                    .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-            summary.put("timeline", timeline);
-            
-            return summary;
-            
+            return summarize(sheet, exportService.convertToSheetsData(sheet));
         } catch (Exception e) {
             log.error("Error generating sheet summary", e);
             throw new RuntimeException("Failed to generate sheet summary", e);
         }
     }
 
+    private Map<String, Object> summarize(GoogleSheetsExportService.CapacityTrackingSheet sheet, List<List<Object>> data) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("title", sheet.getTitle());
+        summary.put("generatedDate", sheet.getGeneratedDate());
+        summary.put("totalTeams", sheet.getTeamData().size());
+        summary.put("totalRows", data.size());
+        summary.put("totalColumns", data.get(0).size());
+        summary.put("timelineWeeks", sheet.getTimelineWeeks().size());
+        
+        // Team breakdown
+        Map<String, Integer> teamBreakdown = new HashMap<>();
+        for (Map.Entry<String, List<GoogleSheetsExportService.CapacityRow>> entry : sheet.getTeamData().entrySet()) {
+            teamBreakdown.put(entry.getKey(), entry.getValue().size());
+        }
+        summary.put("teamBreakdown", teamBreakdown);
+        
+        // Timeline info
+        List<String> timeline = sheet.getTimelineWeeks().stream()
+                .map(week -> week.getMonthName() + " " + week.getWeekNumber())
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        summary.put("timeline", timeline);
+        
+        return summary;
+    }
+
     public List<List<Object>> exportCapacityData() {
         try {
             GoogleSheetsExportService.CapacityTrackingSheet sheet = exportService.generateCapacityTrackingSheet();
@@ -316,34 +318,81 @@ public class GoogleSheetsIntegrationService {
         }
     }
     
+    /**
+     * Generate the capacity sheet, for the date range when both dates are given. Streaming
+     * exports call this before the response is committed, so failures can still become errors.
+     */
+    public GoogleSheetsExportService.CapacityTrackingSheet generateCapacitySheet(LocalDate startDate, LocalDate endDate) {
+        return startDate != null && endDate != null
+                ? exportService.generateCapacityTrackingSheetByDateRange(startDate, endDate)
+                : exportService.generateCapacityTrackingSheet();
+    }
+    
+    /**
+     * Hand the rows of a generated sheet to the consumer one at a time.
+     * Rows are produced straight from the sheet model, so no full table is held in memory.
+     */
+    public void writeCapacityData(GoogleSheetsExportService.CapacityTrackingSheet sheet, Consumer<List<Object>> rows) {
+        exportService.writeSheetsRows(sheet, rows);
+    }
+    
     public Map<String, Object> getSheetSummaryByDateRange(LocalDate startDate, LocalDate endDate) {
         try {
             log.info("Getting sheet summary for date range: {} to {}", startDate, endDate);
             GoogleSheetsExportService.CapacityTrackingSheet sheet = exportService.generateCapacityTrackingSheetByDateRange(startDate, endDate);
-            
-            int totalRows = 0;
-            int totalTeams = sheet.getTeamData().size();
-            int totalMembers = sheet.getTeamData().values().stream()
-                    .mapToInt(List::size)
-                    .sum();
-            
-            for (List<GoogleSheetsExportService.CapacityRow> teamRows : sheet.getTeamData().values()) {
-                totalRows += teamRows.size();
-            }
-            
-            return Map.of(
-                    "title", sheet.getTitle(),
-                    "generatedDate", sheet.getGeneratedDate().toString(),
-                    "totalRows", totalRows + 1, // +1 for header
-                    "totalTeams", totalTeams,
-                    "totalMembers", totalMembers,
-                    "timelineWeeks", sheet.getTimelineWeeks().size(),
-                    "dateRange", Map.of("startDate", startDate.toString(), "endDate", endDate.toString()),
-                    "status", "Generated with date filter"
-            );
+            return summarizeByDateRange(sheet, startDate, endDate);
         } catch (Exception e) {
             log.error("Error getting sheet summary by date range", e);
             throw new RuntimeException("Failed to get sheet summary by date range", e);
         }
     }
+
+    private Map<String, Object> summarizeByDateRange(GoogleSheetsExportService.CapacityTrackingSheet sheet,
+                                                     LocalDate startDate, LocalDate endDate) {
+        int totalRows = 0;
+        int totalTeams = sheet.getTeamData().size();
+        int totalMembers = sheet.getTeamData().values().stream()
+                .mapToInt(List::size)
+                .sum();
+        
+        for (List<GoogleSheetsExportService.CapacityRow> teamRows : sheet.getTeamData().values()) {
+            totalRows += teamRows.size();
+        }
+        
+        return Map.of(
+                "title", sheet.getTitle(),
+                "generatedDate", sheet.getGeneratedDate().toString(),
+                "totalRows", totalRows + 1, // +1 for header
+                "totalTeams", totalTeams,
+                "totalMembers", totalMembers,
+                "timelineWeeks", sheet.getTimelineWeeks().size(),
+                "dateRange", Map.of("startDate", startDate.toString(), "endDate", endDate.toString()),
+                "status", "Generated with date filter"
+        );
+    }
+
+    /**
+     * Summary and the first rows of one generated sheet, so a preview fetches and builds the
+     * capacity data only once
+     */
+    public Map<String, Object> previewCapacityData(LocalDate startDate, LocalDate endDate, int previewRows) {
+        try {
+            boolean byDateRange = startDate != null && endDate != null;
+            GoogleSheetsExportService.CapacityTrackingSheet sheet = byDateRange
+                    ? exportService.generateCapacityTrackingSheetByDateRange(startDate, endDate)
+                    : exportService.generateCapacityTrackingSheet();
+            List<List<Object>> data = exportService.convertToSheetsData(sheet);
+            
+            List<List<Object>> preview = new ArrayList<>(data.subList(0, Math.min(previewRows, data.size())));
+            Map<String, Object> result = new HashMap<>();
+            result.put("summary", byDateRange ? summarizeByDateRange(sheet, startDate, endDate) : summarize(sheet, data));
+            result.put("preview", preview);
+            result.put("totalRows", data.size());
+            result.put("previewRows", preview.size());
+            return result;
+        } catch (Exception e) {
+            log.error("Error previewing capacity data", e);
+            throw new RuntimeException("Failed to preview capacity data", e);
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,380 @@
+package com.paytm.jiradashboard.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed bitmap of issue row ids (Roaring-style).
+ * Row ids are split into 16-bit chunks; sparse chunks are kept as sorted char arrays and
+ * dense chunks (more than 4096 entries) as 1024-word bitsets, so AND/OR and cardinality stay
+ * cheap for both rare and common dimension values.
+ */
+public final class IssueBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public IssueBitmap() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+    }
+
+    private IssueBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    /**
+     * Bitmap with every row in [0, rowCount)
+     */
+    public static IssueBitmap allRows(int rowCount) {
+        IssueBitmap bitmap = new IssueBitmap();
+        for (int row = 0; row < rowCount; row++) {
+            bitmap.add(row);
+        }
+        return bitmap;
+    }
+
+    public void add(int row) {
+        char high = (char) (row >>> 16);
+        char low = (char) row;
+        // Rows are usually appended in increasing order, so check the last container first
+        int index = size > 0 && keys[size - 1] == high ? size - 1 : Arrays.binarySearch(keys, 0, size, high);
+        if (index >= 0) {
+            containers[index] = containers[index].add(low);
+        } else {
+            insertContainer(-index - 1, high, new ArrayContainer().add(low));
+        }
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public IssueBitmap and(IssueBitmap other) {
+        IssueBitmap result = new IssueBitmap(new char[Math.min(size, other.size) + 1],
+                new Container[Math.min(size, other.size) + 1], 0);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container c = containers[i].and(other.containers[j]);
+                if (c.cardinality() > 0) {
+                    result.appendContainer(keys[i], c);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public IssueBitmap or(IssueBitmap other) {
+        IssueBitmap result = new IssueBitmap(new char[size + other.size + 1],
+                new Container[size + other.size + 1], 0);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i >= size || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public static IssueBitmap orAll(Collection<IssueBitmap> bitmaps) {
+        IssueBitmap result = new IssueBitmap();
+        for (IssueBitmap bitmap : bitmaps) {
+            result = result.or(bitmap);
+        }
+        return result;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendContainer(char key, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newLength = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newLength);
+            containers = Arrays.copyOf(containers, newLength);
+        }
+    }
+
+    private abstract static class Container {
+        abstract Container add(char value);
+        abstract boolean contains(char value);
+        abstract int cardinality();
+        abstract Container and(Container other);
+        abstract Container or(Container other);
+        abstract Container copy();
+        abstract void forEach(int base, IntConsumer consumer);
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this.values = new char[4];
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            if (cardinality > 0 && values[cardinality - 1] < value) {
+                return insertAt(cardinality, value);
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            return index >= 0 ? this : insertAt(-index - 1, value);
+        }
+
+        private Container insertAt(int index, char value) {
+            if (cardinality >= ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] out = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        out[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        out[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(out, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] out = new char[cardinality + array.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j >= array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    out[count++] = values[i++];
+                } else if (i >= cardinality || values[i] > array.values[j]) {
+                    out[count++] = array.values[j++];
+                } else {
+                    out[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayContainer merged = new ArrayContainer(out, count);
+            return count > ARRAY_MAX ? merged.toBitmap() : merged;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(base | values[i]);
+            }
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this.words = new long[BITMAP_WORDS];
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        void set(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            words[value >>> 6] = after;
+            if (before != after) {
+                cardinality++;
+            }
+        }
+
+        @Override
+        Container add(char value) {
+            set(value);
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            long[] out = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                out[i] = words[i] & bitmap.words[i];
+                count += Long.bitCount(out[i]);
+            }
+            BitmapContainer result = new BitmapContainer(out, count);
+            return count <= ARRAY_MAX ? result.toArray() : result;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    result.set(array.values[i]);
+                }
+                return result;
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result.words[i] |= bitmap.words[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer consumer) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(base | ((i << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+}
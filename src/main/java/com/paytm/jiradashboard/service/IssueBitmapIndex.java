@@ -0,0 +1,120 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.model.IssueStatus;
+import com.paytm.jiradashboard.model.JiraIssue;
+
+import java.util.*;
+
+/**
+ * Bitmap index over an IssueColumns snapshot with one compressed bitmap per status, assignee
+ * and project value. Filters are evaluated as bitmap OR within a dimension and AND across
+ * dimensions.
+ */
+public final class IssueBitmapIndex {
+
+    private final IssueColumns columns;
+    private final IssueBitmap allRows;
+    private final IssueBitmap[] byStatus;
+    private final IssueBitmap[] byAssignee;
+    private final IssueBitmap[] byProject;
+
+    private IssueBitmapIndex(IssueColumns columns) {
+        this.columns = columns;
+        this.allRows = IssueBitmap.allRows(columns.size());
+        this.byStatus = newBitmaps(IssueStatus.values().length);
+        this.byAssignee = newBitmaps(columns.getAssignees().size());
+        this.byProject = newBitmaps(columns.getProjects().size());
+
+        for (int row = 0; row < columns.size(); row++) {
+            byStatus[columns.statusAt(row).ordinal()].add(row);
+            addIfPresent(byAssignee, columns.assigneeAt(row), row);
+            addIfPresent(byProject, columns.projectAt(row), row);
+        }
+    }
+
+    public static IssueBitmapIndex build(IssueColumns columns) {
+        return new IssueBitmapIndex(columns);
+    }
+
+    private static IssueBitmap[] newBitmaps(int count) {
+        IssueBitmap[] bitmaps = new IssueBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new IssueBitmap();
+        }
+        return bitmaps;
+    }
+
+    private static void addIfPresent(IssueBitmap[] bitmaps, int id, int row) {
+        if (id != ColumnDictionary.MISSING) {
+            bitmaps[id].add(row);
+        }
+    }
+
+    public IssueColumns getColumns() {
+        return columns;
+    }
+
+    public Query query() {
+        return new Query();
+    }
+
+    public List<JiraIssue> materialize(IssueBitmap rows) {
+        List<JiraIssue> issues = new ArrayList<>(rows.cardinality());
+        rows.forEach(row -> issues.add(columns.row(row)));
+        return issues;
+    }
+
+    /**
+     * Conjunction of per-dimension "value in (...)" filters
+     */
+    public final class Query {
+
+        private final List<IssueBitmap> clauses = new ArrayList<>();
+
+        public Query statusIn(Collection<IssueStatus> statuses) {
+            List<IssueBitmap> matches = new ArrayList<>();
+            for (IssueStatus status : statuses) {
+                matches.add(byStatus[status.ordinal()]);
+            }
+            clauses.add(IssueBitmap.orAll(matches));
+            return this;
+        }
+
+        public Query assigneeIn(Collection<String> assignees) {
+            clauses.add(dictionaryClause(byAssignee, columns.getAssignees(), assignees));
+            return this;
+        }
+
+        public Query projectIn(Collection<String> projectKeys) {
+            clauses.add(dictionaryClause(byProject, columns.getProjects(), projectKeys));
+            return this;
+        }
+
+        private IssueBitmap dictionaryClause(IssueBitmap[] bitmaps, ColumnDictionary dictionary, Collection<String> values) {
+            List<IssueBitmap> matches = new ArrayList<>();
+            for (String value : values) {
+                int id = dictionary.idOf(value);
+                if (id != ColumnDictionary.MISSING) {
+                    matches.add(bitmaps[id]);
+                }
+            }
+            return IssueBitmap.orAll(matches);
+        }
+
+        public IssueBitmap execute() {
+            // Intersect smallest clauses first so intermediate results shrink quickly
+            List<IssueBitmap> ordered = new ArrayList<>(clauses);
+            ordered.sort(Comparator.comparingInt(IssueBitmap::cardinality));
+
+            IssueBitmap result = ordered.isEmpty() ? allRows : ordered.get(0);
+            for (int i = 1; i < ordered.size() && !result.isEmpty(); i++) {
+                result = result.and(ordered.get(i));
+            }
+            return result;
+        }
+
+        public List<JiraIssue> list() {
+            return materialize(execute());
+        }
+    }
+}
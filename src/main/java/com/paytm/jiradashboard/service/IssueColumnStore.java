@@ -0,0 +1,66 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.event.IssuesSyncedEvent;
+import com.paytm.jiradashboard.model.JiraIssue;
+import com.paytm.jiradashboard.repository.JiraIssueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Read-optimized in-memory copy of the synced issues, used for dashboard aggregations.
+ * Loaded from the database at startup and patched after every Jira sync; the bitmap
+ * index is rebuilt together with the columns so both always describe the same rows.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IssueColumnStore {
+
+    private final JiraIssueRepository jiraIssueRepository;
+
+    private volatile IssueBitmapIndex index = IssueBitmapIndex.build(IssueColumns.empty());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        rebuild(jiraIssueRepository.findAll());
+    }
+
+    @EventListener
+    public void onIssuesSynced(IssuesSyncedEvent event) {
+        upsert(event.getIssues());
+    }
+
+    public synchronized void rebuild(List<JiraIssue> issues) {
+        long start = System.nanoTime();
+        index = IssueBitmapIndex.build(IssueColumns.of(issues));
+        log.info("Rebuilt issue column store with {} issues in {} ms",
+                index.getColumns().size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public synchronized void upsert(List<JiraIssue> issues) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        index = IssueBitmapIndex.build(index.getColumns().withUpserts(issues));
+        log.debug("Patched issue column store with {} issues, now holding {}", issues.size(), index.getColumns().size());
+    }
+
+    /**
+     * Current immutable snapshot; callers should grab it once per request
+     */
+    public IssueColumns snapshot() {
+        return index.getColumns();
+    }
+
+    /**
+     * Bitmap index over the current snapshot, for label/status/assignee/sprint filters
+     */
+    public IssueBitmapIndex index() {
+        return index;
+    }
+}
@@ -0,0 +1,266 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.model.IssueStatus;
+import com.paytm.jiradashboard.model.IssueType;
+import com.paytm.jiradashboard.model.JiraIssue;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Immutable column-oriented view over a set of Jira issues.
+ * Each field is held in a primitive array indexed by row; string fields are dictionary-encoded
+ * and dates are stored as epoch days so group-by and filter passes are plain loops over ints.
+ */
+public final class IssueColumns {
+
+    public static final int NO_DATE = Integer.MIN_VALUE;
+    public static final int NO_POINTS = -1;
+
+    private static final IssueStatus[] STATUSES = IssueStatus.values();
+    private static final IssueType[] TYPES = IssueType.values();
+
+    private final int size;
+    private final String[] issueKeys;
+    private final JiraIssue[] rows;
+    private final Map<String, Integer> rowByKey;
+
+    private final ColumnDictionary assignees;
+    private final ColumnDictionary projects;
+    private final ColumnDictionary sprints;
+
+    private final int[] assignee;
+    private final int[] project;
+    private final int[] sprint;
+    private final byte[] status;
+    private final byte[] type;
+    private final int[] createdDay;
+    private final int[] updatedDay;
+    private final int[] dueDay;
+    private final int[] storyPoints;
+
+    private IssueColumns(int capacity, ColumnDictionary assignees, ColumnDictionary projects,
+                         ColumnDictionary sprints, Map<String, Integer> rowByKey) {
+        this.size = capacity;
+        this.issueKeys = new String[capacity];
+        this.rows = new JiraIssue[capacity];
+        this.rowByKey = rowByKey;
+        this.assignees = assignees;
+        this.projects = projects;
+        this.sprints = sprints;
+        this.assignee = new int[capacity];
+        this.project = new int[capacity];
+        this.sprint = new int[capacity];
+        this.status = new byte[capacity];
+        this.type = new byte[capacity];
+        this.createdDay = new int[capacity];
+        this.updatedDay = new int[capacity];
+        this.dueDay = new int[capacity];
+        this.storyPoints = new int[capacity];
+    }
+
+    public static IssueColumns empty() {
+        return of(Collections.emptyList());
+    }
+
+    /**
+     * Build columns from scratch; later issues with the same key replace earlier ones
+     */
+    public static IssueColumns of(List<JiraIssue> issues) {
+        Map<String, JiraIssue> unique = new LinkedHashMap<>();
+        for (JiraIssue issue : issues) {
+            unique.put(issue.getIssueKey(), issue);
+        }
+
+        IssueColumns columns = new IssueColumns(unique.size(), new ColumnDictionary(), new ColumnDictionary(),
+                new ColumnDictionary(), new HashMap<>(unique.size() * 2));
+        int row = 0;
+        for (JiraIssue issue : unique.values()) {
+            columns.set(row++, issue);
+        }
+        return columns;
+    }
+
+    /**
+     * Return a new column set with the given issues replaced or appended (copy-on-write)
+     */
+    public IssueColumns withUpserts(List<JiraIssue> issues) {
+        Map<String, JiraIssue> appended = new LinkedHashMap<>();
+        for (JiraIssue issue : issues) {
+            if (!rowByKey.containsKey(issue.getIssueKey())) {
+                appended.put(issue.getIssueKey(), issue);
+            }
+        }
+
+        IssueColumns patched = new IssueColumns(size + appended.size(), assignees.copy(), projects.copy(),
+                sprints.copy(), new HashMap<>(rowByKey));
+        System.arraycopy(issueKeys, 0, patched.issueKeys, 0, size);
+        System.arraycopy(rows, 0, patched.rows, 0, size);
+        System.arraycopy(assignee, 0, patched.assignee, 0, size);
+        System.arraycopy(project, 0, patched.project, 0, size);
+        System.arraycopy(sprint, 0, patched.sprint, 0, size);
+        System.arraycopy(status, 0, patched.status, 0, size);
+        System.arraycopy(type, 0, patched.type, 0, size);
+        System.arraycopy(createdDay, 0, patched.createdDay, 0, size);
+        System.arraycopy(updatedDay, 0, patched.updatedDay, 0, size);
+        System.arraycopy(dueDay, 0, patched.dueDay, 0, size);
+        System.arraycopy(storyPoints, 0, patched.storyPoints, 0, size);
+
+        for (JiraIssue issue : issues) {
+            Integer existingRow = rowByKey.get(issue.getIssueKey());
+            if (existingRow != null) {
+                patched.set(existingRow, issue);
+            }
+        }
+        int row = size;
+        for (JiraIssue issue : appended.values()) {
+            patched.set(row++, issue);
+        }
+        return patched;
+    }
+
+    private void set(int row, JiraIssue issue) {
+        issueKeys[row] = issue.getIssueKey();
+        rows[row] = issue;
+        rowByKey.put(issue.getIssueKey(), row);
+        assignee[row] = assignees.encode(issue.getAssignee());
+        project[row] = projects.encode(issue.getProjectKey());
+        sprint[row] = issue.getSprint() != null && !issue.getSprint().isEmpty()
+                ? sprints.encode(issue.getSprint()) : ColumnDictionary.MISSING;
+        status[row] = (byte) (issue.getStatus() != null ? issue.getStatus() : IssueStatus.TO_DO).ordinal();
+        type[row] = (byte) (issue.getIssueType() != null ? issue.getIssueType() : IssueType.TASK).ordinal();
+        createdDay[row] = toEpochDay(issue.getCreated());
+        updatedDay[row] = toEpochDay(issue.getUpdated());
+        dueDay[row] = toEpochDay(issue.getDueDate());
+        storyPoints[row] = issue.getStoryPoints() != null ? issue.getStoryPoints() : NO_POINTS;
+    }
+
+    private static int toEpochDay(LocalDateTime dateTime) {
+        return dateTime != null ? (int) dateTime.toLocalDate().toEpochDay() : NO_DATE;
+    }
+
+    // Group-by operations
+
+    public Map<IssueStatus, Long> countByStatus() {
+        long[] counts = new long[STATUSES.length];
+        for (int row = 0; row < size; row++) {
+            counts[status[row]]++;
+        }
+        Map<IssueStatus, Long> result = new EnumMap<>(IssueStatus.class);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                result.put(STATUSES[i], counts[i]);
+            }
+        }
+        return result;
+    }
+
+    public Map<String, Long> countByAssignee() {
+        return countByDictionary(assignee, assignees);
+    }
+
+    public Map<String, Long> countByProject() {
+        return countByDictionary(project, projects);
+    }
+
+    private Map<String, Long> countByDictionary(int[] column, ColumnDictionary dictionary) {
+        long[] counts = new long[dictionary.size()];
+        for (int row = 0; row < size; row++) {
+            int id = column[row];
+            if (id != ColumnDictionary.MISSING) {
+                counts[id]++;
+            }
+        }
+        Map<String, Long> result = new HashMap<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                result.put(dictionary.decode(id), counts[id]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Per-sprint tallies laid out as [sprintId][statusOrdinal]
+     */
+    public long[][] countBySprintAndStatus() {
+        long[][] counts = new long[sprints.size()][STATUSES.length];
+        for (int row = 0; row < size; row++) {
+            int id = sprint[row];
+            if (id != ColumnDictionary.MISSING) {
+                counts[id][status[row]]++;
+            }
+        }
+        return counts;
+    }
+
+    public Map<String, List<JiraIssue>> groupBySprint() {
+        Map<String, List<JiraIssue>> result = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            int id = sprint[row];
+            if (id != ColumnDictionary.MISSING) {
+                result.computeIfAbsent(sprints.decode(id), k -> new ArrayList<>()).add(rows[row]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Distinct assignees that currently own at least one issue
+     */
+    public List<String> distinctAssignees() {
+        boolean[] seen = new boolean[assignees.size()];
+        for (int row = 0; row < size; row++) {
+            if (assignee[row] != ColumnDictionary.MISSING) {
+                seen[assignee[row]] = true;
+            }
+        }
+        List<String> result = new ArrayList<>();
+        for (int id = 0; id < seen.length; id++) {
+            if (seen[id]) {
+                result.add(assignees.decode(id));
+            }
+        }
+        return result;
+    }
+
+    // Filter operations
+
+    public List<JiraIssue> findByStatusIn(Collection<IssueStatus> statuses) {
+        boolean[] wanted = statusMask(statuses);
+        List<JiraIssue> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (wanted[status[row]]) {
+                result.add(rows[row]);
+            }
+        }
+        return result;
+    }
+
+    static boolean[] statusMask(Collection<IssueStatus> statuses) {
+        boolean[] mask = new boolean[STATUSES.length];
+        for (IssueStatus s : statuses) {
+            mask[s.ordinal()] = true;
+        }
+        return mask;
+    }
+
+    // Column accessors
+
+    public int size() { return size; }
+    public JiraIssue row(int row) { return rows[row]; }
+    public String issueKey(int row) { return issueKeys[row]; }
+    public int rowOf(String issueKey) { return rowByKey.getOrDefault(issueKey, -1); }
+    public ColumnDictionary getAssignees() { return assignees; }
+    public ColumnDictionary getProjects() { return projects; }
+    public ColumnDictionary getSprints() { return sprints; }
+    public int assigneeAt(int row) { return assignee[row]; }
+    public int projectAt(int row) { return project[row]; }
+    public int sprintAt(int row) { return sprint[row]; }
+    public IssueStatus statusAt(int row) { return STATUSES[status[row]]; }
+    public IssueType typeAt(int row) { return TYPES[type[row]]; }
+    public int createdDayAt(int row) { return createdDay[row]; }
+    public int updatedDayAt(int row) { return updatedDay[row]; }
+    public int dueDayAt(int row) { return dueDay[row]; }
+    public int storyPointsAt(int row) { return storyPoints[row]; }
+}
@@ -33,6 +33,10 @@ public class JiraApiService {
     
     private final RestTemplate restTemplate;
     
+    private static final int SEARCH_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 5000;
+    private static final int LABELS_PER_QUERY = 50;
+    
     public JiraApiService() {
         this.restTemplate = new RestTemplate();
     }
@@ -104,50 +108,136 @@ public class JiraApiService {
     }
     
     public List<JiraIssue> fetchIssuesByDateRange(LocalDate startDate, LocalDate endDate) {
+        return fetchIssuesByDateRange(startDate, endDate, PageListener.NONE);
+    }
+    
+    /**
+     * Fetch issues updated in the date range, paging through the search results
+     * and reporting each fetched page to the listener. Failures are thrown rather than
+     * returned as an empty list, so callers never mistake an outage for an empty range.
+     */
+    public List<JiraIssue> fetchIssuesByDateRange(LocalDate startDate, LocalDate endDate, PageListener pageListener) {
         try {
             log.info("Fetching issues from Jira between {} and {}", startDate, endDate);
             
-            // Build JQL query combining environment filter with date range
-            String baseJql = jqlFilter.replace(" ORDER BY priority DESC, status ASC, issuetype ASC", "");
-            String dateRangeJql = String.format(
-                "(%s) AND updated >= '%s' AND updated <= '%s' ORDER BY updated DESC", 
-                baseJql,
-                startDate.toString(), 
-                endDate.toString()
-            );
-            
+            String dateRangeJql = buildDateRangeJql(startDate, endDate, null);
             log.info("Using JQL query: {}", dateRangeJql);
             
+            List<JiraIssue> result = searchAllPages(dateRangeJql, pageListener);
+            log.info("Fetched {} issues from Jira updated between {} and {}", 
+                    result.size(), startDate, endDate);
+            return result;
+            
+        } catch (Exception e) {
+            log.error("Error fetching issues from Jira by date range", e);
+            throw new RuntimeException("Failed to fetch issues from Jira by date range: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Fetch issues updated in the date range that carry at least one of the given labels.
+     * The label filter is pushed into JQL as labels in (...) clauses; long label lists are split
+     * into several queries to keep the URL bounded and the results are merged by issue key.
+     */
+    public List<JiraIssue> fetchIssuesByDateRangeAndLabels(LocalDate startDate, LocalDate endDate,
+                                                          Collection<String> labels, PageListener pageListener) {
+        try {
+            List<String> labelList = new ArrayList<>(new LinkedHashSet<>(labels));
+            log.info("Fetching issues from Jira between {} and {} for {} labels", startDate, endDate, labelList.size());
+            
+            Map<String, JiraIssue> merged = new LinkedHashMap<>();
+            int[] pagesSoFar = {0};
+            for (int from = 0; from < labelList.size(); from += LABELS_PER_QUERY) {
+                List<String> chunk = labelList.subList(from, Math.min(from + LABELS_PER_QUERY, labelList.size()));
+                String jql = buildDateRangeJql(startDate, endDate, buildLabelsClause(chunk));
+                log.info("Using JQL query: {}", jql);
+                
+                int fetchedBefore = merged.size();
+                int pagesBefore = pagesSoFar[0];
+                for (JiraIssue issue : searchAllPages(jql, (page, fetched, total) -> {
+                    pagesSoFar[0] = pagesBefore + page;
+                    pageListener.onPage(pagesSoFar[0], fetchedBefore + fetched, fetchedBefore + total);
+                })) {
+                    merged.put(issue.getIssueKey(), issue);
+                }
+            }
+            
+            log.info("Fetched {} issues from Jira updated between {} and {} matching labels", 
+                    merged.size(), startDate, endDate);
+            return new ArrayList<>(merged.values());
+            
+        } catch (Exception e) {
+            log.error("Error fetching issues from Jira by date range and labels", e);
+            throw new RuntimeException("Failed to fetch issues from Jira by date range and labels: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Combine the configured JQL filter with an updated-date range and an optional extra clause
+     */
+    private String buildDateRangeJql(LocalDate startDate, LocalDate endDate, String extraClause) {
+        String baseJql = jqlFilter.replace(" ORDER BY priority DESC, status ASC, issuetype ASC", "");
+        return String.format(
+            "(%s) AND updated >= '%s' AND updated <= '%s'%s ORDER BY updated DESC", 
+            baseJql,
+            startDate.toString(), 
+            endDate.toString(),
+            extraClause != null ? " AND " + extraClause : ""
+        );
+    }
+    
+    private String buildLabelsClause(List<String> labels) {
+        return labels.stream()
+                .map(label -> "\"" + label.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                .collect(Collectors.joining(",", "labels in (", ")"));
+    }
+    
+    /**
+     * Run a search page by page until all results (up to MAX_SEARCH_RESULTS) are fetched.
+     * Jira caps the page size server-side, so the next startAt is based on what was actually returned.
+     */
+    private List<JiraIssue> searchAllPages(String jql, PageListener pageListener) {
+        List<JiraIssue> result = new ArrayList<>();
+        HttpEntity<String> entity = new HttpEntity<>(createAuthHeaders());
+        int startAt = 0;
+        int page = 0;
+        
+        while (result.size() < MAX_SEARCH_RESULTS) {
             String url = UriComponentsBuilder
                     .fromHttpUrl(jiraBaseUrl + "/rest/api/2/search")
-                    .queryParam("jql", dateRangeJql)
-                    .queryParam("maxResults", 5000) // Set max limit to 5000 as requested
+                    .queryParam("jql", jql)
+                    .queryParam("startAt", startAt)
+                    .queryParam("maxResults", Math.min(SEARCH_PAGE_SIZE, MAX_SEARCH_RESULTS - result.size()))
                     .queryParam("fields", "summary,description,status,issuetype,assignee,reporter,project,priority,created,updated,resolutiondate,duedate,customfield_10016,labels,components,customfield_10020,customfield_10014")
                     .build()
                     .toUriString();
             
-            HttpHeaders headers = createAuthHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
             ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+                // A partial result would look like a complete one to the caller
+                throw new IllegalStateException("Jira search returned " + response.getStatusCode() + " at startAt " + startAt);
+            }
             
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> issues = (List<Map<String, Object>>) responseBody.get("issues");
-                
-                log.info("Fetched {} issues from Jira updated between {} and {}", 
-                        issues.size(), startDate, endDate);
-                
-                return issues.stream()
-                        .map(this::mapToJiraIssue)
-                        .collect(Collectors.toList());
+            Map<String, Object> responseBody = response.getBody();
+            List<Map<String, Object>> issues = (List<Map<String, Object>>) responseBody.get("issues");
+            if (issues == null || issues.isEmpty()) {
+                break;
             }
             
-        } catch (Exception e) {
-            log.error("Error fetching issues from Jira by date range", e);
+            for (Map<String, Object> issue : issues) {
+                result.add(mapToJiraIssue(issue));
+            }
+            
+            int total = responseBody.get("total") instanceof Number number ? number.intValue() : result.size();
+            pageListener.onPage(++page, result.size(), Math.min(total, MAX_SEARCH_RESULTS));
+            
+            startAt += issues.size();
+            if (startAt >= total) {
+                break;
+            }
         }
         
-        return new ArrayList<>();
+        return result;
     }
     
     private JiraIssue mapToJiraIssue(Map<String, Object> issueData) {
@@ -301,4 +391,14 @@ public class JiraApiService {
         headers.setContentType(MediaType.APPLICATION_JSON);
         return headers;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Callback for paged searches: invoked after each page with the running count
+     */
+    @FunctionalInterface
+    public interface PageListener {
+        PageListener NONE = (page, fetched, total) -> { };
+        
+        void onPage(int page, int fetched, int total);
+    }
+}
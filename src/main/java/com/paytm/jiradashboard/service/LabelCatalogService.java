@@ -0,0 +1,208 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.event.IssuesSyncedEvent;
+import com.paytm.jiradashboard.model.IssueStatus;
+import com.paytm.jiradashboard.model.JiraIssue;
+import com.paytm.jiradashboard.repository.JiraIssueRepository;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * In-memory catalog of known labels with issue counts, last seen time and per-status counts.
+ * Seeded from the database at startup and maintained incrementally: each issue's previous
+ * contribution is remembered by key, so a re-synced issue is subtracted before it is re-added.
+ * Reads go against an immutable sorted view and label trie that are swapped after every change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LabelCatalogService {
+
+    private static final IssueStatus[] STATUSES = IssueStatus.values();
+
+    private final JiraIssueRepository jiraIssueRepository;
+
+    private final Map<String, Contribution> contributions = new HashMap<>();
+    private final Map<String, LabelStats> stats = new HashMap<>();
+
+    private volatile View view = new View(new LabelEntry[0]);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        long start = System.nanoTime();
+        ingest(jiraIssueRepository.findAll());
+        log.info("Loaded label catalog with {} labels in {} ms",
+                view.entries.length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onIssuesSynced(IssuesSyncedEvent event) {
+        ingest(event.getIssues());
+    }
+
+    /**
+     * Add or replace the label contributions of the given issues
+     */
+    public synchronized void ingest(Collection<JiraIssue> issues) {
+        boolean changed = false;
+        for (JiraIssue issue : issues) {
+            if (issue.getIssueKey() == null) {
+                continue;
+            }
+            Contribution next = new Contribution(Labels.parse(issue.getLabels()), issue.getStatus());
+            Contribution previous = contributions.put(issue.getIssueKey(), next);
+            if (previous != null) {
+                subtract(previous);
+            }
+            add(next, issue.getUpdated());
+            changed |= !next.labels.isEmpty() || (previous != null && !previous.labels.isEmpty());
+        }
+        if (changed) {
+            publishView();
+        }
+    }
+
+    /**
+     * All known label names in case-insensitive order
+     */
+    public List<String> getLabelNames() {
+        LabelEntry[] entries = view.entries;
+        List<String> names = new ArrayList<>(entries.length);
+        for (LabelEntry entry : entries) {
+            names.add(entry.getLabel());
+        }
+        return names;
+    }
+
+    /**
+     * Labels starting with the given prefix (case-insensitive), in case-insensitive order
+     */
+    public List<LabelEntry> search(String prefix, int limit) {
+        return view.trie.withPrefix(prefix == null ? "" : prefix, limit);
+    }
+
+    /**
+     * Expand a label selection into concrete labels. Entries containing * or ? are glob
+     * patterns (e.g. "MO_*" or "*_Payments") resolved against the catalog trie; other entries
+     * are taken as exact label names. Order follows the selection, without duplicates.
+     */
+    public List<String> resolve(Collection<String> selections) {
+        LabelTrie trie = view.trie;
+        Set<String> labels = new LinkedHashSet<>();
+        for (String selection : selections) {
+            if (selection == null || selection.isBlank()) {
+                continue;
+            }
+            String trimmed = selection.trim();
+            if (!LabelTrie.isPattern(trimmed)) {
+                labels.add(trimmed);
+                continue;
+            }
+            for (LabelEntry entry : trie.matching(trimmed)) {
+                labels.add(entry.getLabel());
+            }
+        }
+        return new ArrayList<>(labels);
+    }
+
+    public Optional<LabelEntry> getLabel(String label) {
+        return Optional.ofNullable(view.byLabel.get(label));
+    }
+
+    public int size() {
+        return view.entries.length;
+    }
+
+    private void add(Contribution contribution, LocalDateTime updated) {
+        for (String label : contribution.labels) {
+            LabelStats labelStats = stats.computeIfAbsent(label, k -> new LabelStats());
+            labelStats.issueCount++;
+            if (contribution.status != null) {
+                labelStats.statusCounts[contribution.status.ordinal()]++;
+            }
+            if (updated != null && (labelStats.lastSeen == null || updated.isAfter(labelStats.lastSeen))) {
+                labelStats.lastSeen = updated;
+            }
+        }
+    }
+
+    private void subtract(Contribution contribution) {
+        for (String label : contribution.labels) {
+            LabelStats labelStats = stats.get(label);
+            if (labelStats == null) {
+                continue;
+            }
+            if (--labelStats.issueCount <= 0) {
+                stats.remove(label);
+                continue;
+            }
+            if (contribution.status != null) {
+                labelStats.statusCounts[contribution.status.ordinal()]--;
+            }
+        }
+    }
+
+    private void publishView() {
+        LabelEntry[] entries = new LabelEntry[stats.size()];
+        int i = 0;
+        for (Map.Entry<String, LabelStats> entry : stats.entrySet()) {
+            entries[i++] = entry.getValue().toEntry(entry.getKey());
+        }
+        // Sorted by the lower-cased label, the same order the trie walks in
+        Arrays.sort(entries, Comparator.comparing((LabelEntry entry) -> entry.getLabel().toLowerCase(Locale.ROOT))
+                .thenComparing(LabelEntry::getLabel));
+        view = new View(entries);
+    }
+
+    private static final class View {
+        private final LabelEntry[] entries;
+        private final LabelTrie trie;
+        private final Map<String, LabelEntry> byLabel;
+
+        View(LabelEntry[] entries) {
+            this.entries = entries;
+            this.trie = LabelTrie.build(entries);
+            this.byLabel = new HashMap<>(entries.length * 2);
+            for (LabelEntry entry : entries) {
+                byLabel.put(entry.getLabel(), entry);
+            }
+        }
+    }
+
+    private static final class LabelStats {
+        private int issueCount;
+        private final int[] statusCounts = new int[STATUSES.length];
+        private LocalDateTime lastSeen;
+
+        LabelEntry toEntry(String label) {
+            Map<String, Integer> byStatus = new LinkedHashMap<>();
+            for (IssueStatus status : STATUSES) {
+                if (statusCounts[status.ordinal()] > 0) {
+                    byStatus.put(status.name(), statusCounts[status.ordinal()]);
+                }
+            }
+            return new LabelEntry(label, issueCount, lastSeen, Collections.unmodifiableMap(byStatus));
+        }
+    }
+
+    @Data
+    private static final class Contribution {
+        private final List<String> labels;
+        private final IssueStatus status;
+    }
+
+    @Data
+    public static class LabelEntry {
+        private final String label;
+        private final int issueCount;
+        private final LocalDateTime lastSeen;
+        private final Map<String, Integer> statusCounts;
+    }
+}
@@ -0,0 +1,165 @@
+package com.paytm.jiradashboard.service;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, case-insensitive character trie over the label catalog. Children are kept in
+ * character order, so a depth-first walk yields labels in lower-cased lexicographic order.
+ * Prefix lookups cost the length of the prefix plus the size of the matching subtree.
+ */
+final class LabelTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+
+    private LabelTrie(Node root) {
+        this.root = root;
+    }
+
+    static LabelTrie build(LabelCatalogService.LabelEntry[] entries) {
+        Builder root = new Builder();
+        for (LabelCatalogService.LabelEntry entry : entries) {
+            Builder node = root;
+            String key = entry.getLabel().toLowerCase(Locale.ROOT);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Builder());
+            }
+            node.labels.add(entry);
+        }
+        return new LabelTrie(root.freeze());
+    }
+
+    /**
+     * Labels starting with the prefix, case-insensitively, up to the limit
+     */
+    List<LabelCatalogService.LabelEntry> withPrefix(String prefix, int limit) {
+        List<LabelCatalogService.LabelEntry> matches = new ArrayList<>();
+        Node node = find(prefix.toLowerCase(Locale.ROOT));
+        if (node != null) {
+            collect(node, matches, limit);
+        }
+        return matches;
+    }
+
+    /**
+     * Labels matching a glob pattern where * is any run of characters and ? any single character.
+     * Only the subtree under the literal part before the first wildcard is visited.
+     */
+    List<LabelCatalogService.LabelEntry> matching(String glob) {
+        int firstWildcard = firstWildcard(glob);
+        String literalPrefix = firstWildcard < 0 ? glob : glob.substring(0, firstWildcard);
+        List<LabelCatalogService.LabelEntry> candidates = withPrefix(literalPrefix, Integer.MAX_VALUE);
+
+        // A trailing * alone is a plain prefix match
+        if (firstWildcard < 0 || (firstWildcard == glob.length() - 1 && glob.charAt(firstWildcard) == '*')) {
+            return candidates;
+        }
+        Pattern pattern = toPattern(glob);
+        List<LabelCatalogService.LabelEntry> matches = new ArrayList<>();
+        for (LabelCatalogService.LabelEntry candidate : candidates) {
+            if (pattern.matcher(candidate.getLabel()).matches()) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    static boolean isPattern(String selection) {
+        return firstWildcard(selection) >= 0;
+    }
+
+    private static int firstWildcard(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Pattern toPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int literalStart = 0;
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' || c == '?') {
+                if (i > literalStart) {
+                    regex.append(Pattern.quote(glob.substring(literalStart, i)));
+                }
+                regex.append(c == '*' ? ".*" : ".");
+                literalStart = i + 1;
+            }
+        }
+        if (literalStart < glob.length()) {
+            regex.append(Pattern.quote(glob.substring(literalStart)));
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL);
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, List<LabelCatalogService.LabelEntry> out, int limit) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty() && out.size() < limit) {
+            Node current = stack.pop();
+            for (LabelCatalogService.LabelEntry entry : current.labels) {
+                if (out.size() == limit) {
+                    return;
+                }
+                out.add(entry);
+            }
+            // Push in reverse so the smallest character is visited first
+            for (int i = current.children.length - 1; i >= 0; i--) {
+                stack.push(current.children[i]);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final List<LabelCatalogService.LabelEntry> labels;
+
+        Node(char[] keys, Node[] children, List<LabelCatalogService.LabelEntry> labels) {
+            this.keys = keys;
+            this.children = children;
+            this.labels = labels;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class Builder {
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private final List<LabelCatalogService.LabelEntry> labels = new ArrayList<>(1);
+
+        Node freeze() {
+            if (children.isEmpty()) {
+                return new Node(NO_KEYS, NO_CHILDREN, labels);
+            }
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                nodes[i] = child.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, nodes, labels);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.paytm.jiradashboard.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helpers for the comma-separated label string stored on JiraIssue
+ */
+public final class Labels {
+
+    private Labels() {
+    }
+
+    /**
+     * Split a stored label string into exact, trimmed label tokens
+     */
+    public static List<String> parse(String labels) {
+        if (labels == null || labels.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>(4);
+        int start = 0;
+        while (start <= labels.length()) {
+            int comma = labels.indexOf(',', start);
+            int end = comma >= 0 ? comma : labels.length();
+            String token = labels.substring(start, end).trim();
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+            start = end + 1;
+        }
+        return tokens;
+    }
+}
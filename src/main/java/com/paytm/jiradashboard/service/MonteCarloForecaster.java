@@ -0,0 +1,98 @@
+package com.paytm.jiradashboard.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Throughput Monte Carlo: each trial replays randomly drawn historical days until the
+ * remaining items are done. The number of working days it took goes into a histogram. Trials
+ * are split recursively across a fork-join pool. Every subtask owns a SplittableRandom split
+ * off its parent's before forking and returns its own histogram, so no state is shared
+ * between threads.
+ */
+final class MonteCarloForecaster {
+
+    /**
+     * Trials needing more working days than this land in the overflow bucket
+     */
+    static final int MAX_WORKING_DAYS = 2000;
+
+    private static final int TRIALS_PER_TASK = 1024;
+
+    private MonteCarloForecaster() {
+    }
+
+    /**
+     * Histogram of working days to finish, indexed 0..MAX_WORKING_DAYS; the last slot counts
+     * trials that did not finish within MAX_WORKING_DAYS
+     */
+    static int[] run(ForkJoinPool pool, int[] dailyThroughput, int remainingItems, int trials, long seed) {
+        return pool.invoke(new Trials(dailyThroughput, remainingItems, trials, new SplittableRandom(seed)));
+    }
+
+    /**
+     * Smallest number of working days that at least the given fraction of trials finished in,
+     * or -1 when that falls in the overflow bucket
+     */
+    static int percentile(int[] histogram, int trials, double fraction) {
+        long needed = (long) Math.ceil(fraction * trials);
+        long seen = 0;
+        for (int days = 0; days < MAX_WORKING_DAYS + 1; days++) {
+            seen += histogram[days];
+            if (seen >= needed) {
+                return days;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Trials extends RecursiveTask<int[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] dailyThroughput;
+        private final int remainingItems;
+        private final int trials;
+        private final SplittableRandom random;
+
+        private Trials(int[] dailyThroughput, int remainingItems, int trials, SplittableRandom random) {
+            this.dailyThroughput = dailyThroughput;
+            this.remainingItems = remainingItems;
+            this.trials = trials;
+            this.random = random;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (trials <= TRIALS_PER_TASK) {
+                return runTrials();
+            }
+            int half = trials / 2;
+            Trials left = new Trials(dailyThroughput, remainingItems, half, random.split());
+            Trials right = new Trials(dailyThroughput, remainingItems, trials - half, random);
+            left.fork();
+            int[] histogram = right.compute();
+            int[] other = left.join();
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other[i];
+            }
+            return histogram;
+        }
+
+        private int[] runTrials() {
+            int[] histogram = new int[MAX_WORKING_DAYS + 2];
+            int samples = dailyThroughput.length;
+            for (int trial = 0; trial < trials; trial++) {
+                int done = 0;
+                int days = 0;
+                while (done < remainingItems && days <= MAX_WORKING_DAYS) {
+                    done += dailyThroughput[random.nextInt(samples)];
+                    days++;
+                }
+                histogram[Math.min(days, MAX_WORKING_DAYS + 1)]++;
+            }
+            return histogram;
+        }
+    }
+}
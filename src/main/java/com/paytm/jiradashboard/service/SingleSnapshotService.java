@@ -8,8 +8,9 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +21,10 @@ public class SingleSnapshotService {
     private final JiraIssueRepository jiraIssueRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
+    private final SnapshotResultCache snapshotResultCache;
+    private final LabelCatalogService labelCatalogService;
+    private final AssigneeDirectory assigneeDirectory;
+    private final SnapshotHistoryService snapshotHistoryService;
 
     /**
      * Generate Single Snapshot for all PODs based on selected labels (dates are now mandatory)
@@ -38,31 +43,163 @@ public class SingleSnapshotService {
 
     /**
      * Generate Single Snapshot for all PODs based on selected labels and date range
-     * Fetches data directly from Jira API (no database dependency)
+     * Fetches data directly from Jira API (no database dependency); results are served from
+     * the snapshot cache when the same labels and range were generated recently
      */
     public SingleSnapshotSheet generateSingleSnapshotByDateRange(List<String> selectedLabels, LocalDate startDate, LocalDate endDate) {
+        return generateSingleSnapshotByDateRange(selectedLabels, startDate, endDate, SnapshotProgressListener.NONE);
+    }
+
+    /**
+     * Generate Single Snapshot reporting fetch and grouping progress to the given listener
+     */
+    public SingleSnapshotSheet generateSingleSnapshotByDateRange(List<String> labelSelection, LocalDate startDate, LocalDate endDate,
+                                                                 SnapshotProgressListener progress) {
+        // Expand prefix/glob selections such as "MO_*" into concrete labels once, up front
+        List<String> selectedLabels = labelCatalogService.resolve(labelSelection);
+        if (selectedLabels.isEmpty() && !labelSelection.isEmpty()) {
+            // Patterns that match nothing must not fall through to "all labels"
+            log.info("Label selection {} matched no known labels", labelSelection);
+            return buildSnapshot(List.of(), selectedLabels, startDate, endDate);
+        }
+        
+        Optional<SingleSnapshotSheet> cached = snapshotResultCache.get(selectedLabels, startDate, endDate);
+        if (cached.isPresent()) {
+            log.info("Serving Single Snapshot for labels: {} and date range: {} to {} from cache", selectedLabels, startDate, endDate);
+            return cached.get();
+        }
+        
         log.info("Generating Single Snapshot for labels: {} and date range: {} to {} - FETCHING DIRECTLY FROM JIRA API", selectedLabels, startDate, endDate);
         
-        // Fetch fresh data directly from Jira API
-        List<JiraIssue> allIssues = fetchIssuesFromApiByDateRange(selectedLabels, startDate, endDate);
+        // Reuse an overlapping cached range when possible, otherwise fetch fresh data directly from Jira API
+        List<JiraIssue> allIssues = snapshotResultCache.findOverlapping(selectedLabels, startDate, endDate)
+                .map(entry -> extendCachedRange(entry, selectedLabels, startDate, endDate, progress))
+                .orElseGet(() -> fetchIssuesFromApiByDateRange(selectedLabels, startDate, endDate, progress));
+        progress.onIssuesProcessed(allIssues.size());
+        
+        SingleSnapshotSheet snapshot = buildSnapshot(allIssues, selectedLabels, startDate, endDate);
+        snapshot.version = snapshotHistoryService.record(snapshot);
+        progress.onLabelsGrouped(snapshot.getLabels().size());
+        snapshotResultCache.put(selectedLabels, startDate, endDate, allIssues, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Build the issue list for a range from a cached overlapping range plus delta fetches
+     * for the uncovered days; delta results replace cached copies of the same issue
+     */
+    private List<JiraIssue> extendCachedRange(SnapshotResultCache.Entry cachedEntry, List<String> selectedLabels,
+                                              LocalDate startDate, LocalDate endDate, SnapshotProgressListener progress) {
+        LocalDate cachedStart = cachedEntry.getKey().getStartDate();
+        LocalDate cachedEnd = cachedEntry.getKey().getEndDate();
+        log.info("Extending cached snapshot range {} to {} to {} to {}", cachedStart, cachedEnd, startDate, endDate);
+        
+        // Same bounds as the JQL: updated >= 'start' and updated <= 'end' compare against midnight,
+        // so updates later on the end day are outside the range
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.atStartOfDay();
+        Map<String, JiraIssue> merged = new LinkedHashMap<>();
+        for (JiraIssue issue : cachedEntry.getIssues()) {
+            LocalDateTime updated = issue.getUpdated();
+            if (updated != null && !updated.isBefore(from) && !updated.isAfter(to)) {
+                merged.put(issue.getIssueKey(), issue);
+            }
+        }
+        
+        // Delta ranges share their boundary day with the cached range; duplicates collapse by key
+        if (startDate.isBefore(cachedStart)) {
+            fetchIssuesFromApiByDateRange(selectedLabels, startDate, cachedStart, progress)
+                    .forEach(issue -> merged.put(issue.getIssueKey(), issue));
+        }
+        if (endDate.isAfter(cachedEnd)) {
+            fetchIssuesFromApiByDateRange(selectedLabels, cachedEnd, endDate, progress)
+                    .forEach(issue -> merged.put(issue.getIssueKey(), issue));
+        }
+        
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Generate snapshots for several named label groups from a single Jira fetch. Each group's
+     * selection is resolved like a single snapshot (an empty selection means all labels), the
+     * union of the groups' labels is fetched once and every issue is routed to all matching
+     * groups in one scan. Each result is also recorded in history and the snapshot cache unless its
+     * selection matched no labels.
+     */
+    public Map<String, SingleSnapshotSheet> generateSnapshotBatch(Map<String, List<String>> groupSelections,
+                                                                   LocalDate startDate, LocalDate endDate) {
+        List<String> groupNames = new ArrayList<>(groupSelections.keySet());
+        List<List<String>> groupLabels = new ArrayList<>(groupNames.size());
+        Set<String> unionLabels = new LinkedHashSet<>();
+        boolean fetchAllLabels = false;
+        for (String groupName : groupNames) {
+            List<String> selection = groupSelections.get(groupName);
+            if (selection == null || selection.isEmpty()) {
+                groupLabels.add(null);
+                fetchAllLabels = true;
+            } else {
+                List<String> labels = labelCatalogService.resolve(selection);
+                groupLabels.add(labels);
+                unionLabels.addAll(labels);
+            }
+        }
         
+        log.info("Generating {} snapshot groups for date range: {} to {} from one Jira fetch ({} labels{})",
+                groupNames.size(), startDate, endDate, unionLabels.size(), fetchAllLabels ? ", all labels" : "");
+        List<JiraIssue> allIssues;
+        if (fetchAllLabels) {
+            allIssues = fetchIssuesFromApiByDateRange(List.of(), startDate, endDate, SnapshotProgressListener.NONE);
+        } else if (!unionLabels.isEmpty()) {
+            allIssues = fetchIssuesFromApiByDateRange(new ArrayList<>(unionLabels), startDate, endDate, SnapshotProgressListener.NONE);
+        } else {
+            allIssues = List.of();
+        }
+        
+        List<LabelGroup> routed = routeIssues(allIssues, groupLabels);
+        Map<String, SingleSnapshotSheet> snapshots = new LinkedHashMap<>();
+        for (int g = 0; g < groupNames.size(); g++) {
+            LabelGroup group = routed.get(g);
+            List<String> selectedLabels = groupLabels.get(g) != null ? groupLabels.get(g) : List.of();
+            List<JiraIssue> groupIssues = group.isAllLabels() ? allIssues : group.getIssues();
+            
+            SingleSnapshotSheet snapshot = buildSnapshot(group.podData(), groupIssues.size(), selectedLabels, startDate, endDate);
+            if (groupLabels.get(g) != null && selectedLabels.isEmpty()) {
+                // Patterns that matched nothing would otherwise be stored under the all-labels key
+                log.info("Label group {} matched no known labels", groupNames.get(g));
+            } else {
+                snapshot.version = snapshotHistoryService.record(snapshot);
+                snapshotResultCache.put(selectedLabels, startDate, endDate, groupIssues, snapshot);
+            }
+            snapshots.put(groupNames.get(g), snapshot);
+        }
+        return snapshots;
+    }
+
+    private SingleSnapshotSheet buildSnapshot(List<JiraIssue> allIssues, List<String> selectedLabels,
+                                              LocalDate startDate, LocalDate endDate) {
         // Group issues by POD/Category
         Map<String, List<PodTaskRow>> podData = generatePodData(allIssues, selectedLabels);
-        
+        return buildSnapshot(podData, allIssues.size(), selectedLabels, startDate, endDate);
+    }
+
+    private SingleSnapshotSheet buildSnapshot(Map<String, List<PodTaskRow>> podData, int totalTasks, List<String> selectedLabels,
+                                              LocalDate startDate, LocalDate endDate) {
         return SingleSnapshotSheet.builder()
                 .title("Merchant Onboarding Single View - Date Filtered (" + startDate + " to " + endDate + ") - LIVE DATA")
                 .generatedDate(LocalDate.now())
                 .selectedLabels(selectedLabels)
                 .dateRange(Map.of("startDate", startDate.toString(), "endDate", endDate.toString()))
+                .labels(new ArrayList<>(podData.keySet()))
                 .podData(podData)
-                .totalTasks(allIssues.size())
+                .totalTasks(totalTasks)
                 .build();
     }
 
     /**
      * Fetch issues directly from Jira API by date range (bypasses database completely)
      */
-    private List<JiraIssue> fetchIssuesFromApiByDateRange(List<String> selectedLabels, LocalDate startDate, LocalDate endDate) {
+    private List<JiraIssue> fetchIssuesFromApiByDateRange(List<String> selectedLabels, LocalDate startDate, LocalDate endDate,
+                                                          SnapshotProgressListener progress) {
         log.info("Fetching issues directly from Jira API - Labels: {}, Date range: {} to {}", selectedLabels, startDate, endDate);
         
         // Validate date range (max 6 months for performance)
@@ -72,20 +209,30 @@ public class SingleSnapshotService {
         }
         
         try {
-            // Fetch fresh data from Jira API
-            List<JiraIssue> allIssues = jiraApiService.fetchIssuesByDateRange(startDate, endDate);
-            log.info("Fetched {} issues from Jira API", allIssues.size());
-            
-            // If no labels selected, return all issues
+            // If no labels selected, fetch and return all issues in the range
             if (selectedLabels.isEmpty()) {
+                List<JiraIssue> allIssues = jiraApiService.fetchIssuesByDateRange(startDate, endDate, progress);
+                log.info("Fetched {} issues from Jira API", allIssues.size());
+                labelCatalogService.ingest(allIssues);
                 return allIssues;
             }
             
-            // Filter by selected labels
-            List<JiraIssue> filteredIssues = allIssues.stream()
-                    .filter(issue -> selectedLabels.stream().anyMatch(label -> 
-                            issue.getLabels() != null && issue.getLabels().contains(label)))
-                    .collect(Collectors.toList());
+            // Let Jira filter by label; only matching issues are downloaded
+            List<JiraIssue> allIssues = jiraApiService.fetchIssuesByDateRangeAndLabels(startDate, endDate, selectedLabels, progress);
+            log.info("Fetched {} issues from Jira API for labels: {}", allIssues.size(), selectedLabels);
+            labelCatalogService.ingest(allIssues);
+            
+            // Safety net: keep only exact label matches
+            Set<String> wanted = new HashSet<>(selectedLabels);
+            List<JiraIssue> filteredIssues = new ArrayList<>(allIssues.size());
+            for (JiraIssue issue : allIssues) {
+                for (String label : Labels.parse(issue.getLabels())) {
+                    if (wanted.contains(label)) {
+                        filteredIssues.add(issue);
+                        break;
+                    }
+                }
+            }
             
             log.info("Filtered to {} issues matching labels: {}", filteredIssues.size(), selectedLabels);
             return filteredIssues;
@@ -97,82 +244,113 @@ public class SingleSnapshotService {
     }
 
     /**
-     * Efficiently get filtered issues with mandatory date range for optimal performance
-     * @deprecated Use fetchIssuesFromApiByDateRange for fresh data
+     * Generate POD data grouped by actual labels.
+     * Builds the label -> tasks index in a single pass over the issues using exact label tokens;
+     * labels keep the selection order, or alphabetical order when no labels were selected.
      */
-    private List<JiraIssue> getFilteredIssues(List<String> selectedLabels, LocalDate startDate, LocalDate endDate) {
-        log.debug("Filtering issues - Labels: {}, Date range: {} to {}", selectedLabels, startDate, endDate);
-        
-        // Date range is now mandatory for performance
-        if (startDate == null || endDate == null) {
-            throw new IllegalArgumentException("Start date and end date are mandatory for performance reasons");
-        }
-        
-        // Validate date range (max 6 months for performance)
-        long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
-        if (daysBetween > 180) {
-            throw new IllegalArgumentException("Date range cannot exceed 6 months for performance reasons");
+    private Map<String, List<PodTaskRow>> generatePodData(List<JiraIssue> issues, List<String> selectedLabels) {
+        List<String> labels = selectedLabels.isEmpty() ? null : selectedLabels;
+        return routeIssues(issues, Collections.singletonList(labels)).get(0).podData();
+    }
+
+    /**
+     * Route issues to label groups in a single scan. A null label list selects every label.
+     * Each issue is parsed once and gets one shared PodTaskRow across all of its labels and groups.
+     */
+    private List<LabelGroup> routeIssues(List<JiraIssue> issues, List<List<String>> groupLabels) {
+        List<LabelGroup> groups = new ArrayList<>(groupLabels.size());
+        Map<String, int[]> groupsByLabel = new HashMap<>();
+        List<Integer> allLabelGroups = new ArrayList<>();
+        for (int g = 0; g < groupLabels.size(); g++) {
+            List<String> labels = groupLabels.get(g);
+            groups.add(new LabelGroup(labels));
+            if (labels == null) {
+                allLabelGroups.add(g);
+                continue;
+            }
+            for (String label : new LinkedHashSet<>(labels)) {
+                int[] existing = groupsByLabel.get(label);
+                int[] targets = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+                targets[targets.length - 1] = g;
+                groupsByLabel.put(label, targets);
+            }
         }
-        
-        log.info("Processing issues for {} days ({} to {})", daysBetween, startDate, endDate);
-        
-        // First filter by date range to reduce dataset size significantly
-        List<JiraIssue> dateFilteredIssues = jiraIssueRepository.findAll().parallelStream()
-                .filter(issue -> {
-                    LocalDate createdDate = issue.getCreated().toLocalDate();
-                    return !createdDate.isBefore(startDate) && !createdDate.isAfter(endDate);
-                })
-                .collect(Collectors.toList());
-        
-        log.debug("Date filtering reduced {} issues to {}", jiraIssueRepository.count(), dateFilteredIssues.size());
-        
-        // If no labels selected, return all date-filtered issues
-        if (selectedLabels.isEmpty()) {
-            return dateFilteredIssues;
+        int[] allGroups = allLabelGroups.stream().mapToInt(Integer::intValue).toArray();
+        
+        for (int i = 0; i < issues.size(); i++) {
+            JiraIssue issue = issues.get(i);
+            PodTaskRow row = null;
+            for (String label : Labels.parse(issue.getLabels())) {
+                int[] targets = groupsByLabel.get(label);
+                if (targets == null && allGroups.length == 0) {
+                    continue;
+                }
+                if (row == null) {
+                    row = createPodTaskRow(issue);
+                }
+                if (targets != null) {
+                    for (int g : targets) {
+                        groups.get(g).add(label, row, issue, i);
+                    }
+                }
+                for (int g : allGroups) {
+                    groups.get(g).add(label, row, issue, i);
+                }
+            }
         }
-        
-        // Apply label filtering on the already reduced dataset
-        List<JiraIssue> finalFiltered = dateFilteredIssues.parallelStream()
-                .filter(issue -> selectedLabels.stream().anyMatch(label -> 
-                    issue.getLabels() != null && issue.getLabels().contains(label)))
-                .collect(Collectors.toList());
-        
-        log.debug("Label filtering further reduced to {} issues", finalFiltered.size());
-        return finalFiltered;
+        return groups;
     }
 
     /**
-     * Generate POD data grouped by actual labels
+     * Per-group routing state: task rows by label plus the distinct issues routed to the group
      */
-    private Map<String, List<PodTaskRow>> generatePodData(List<JiraIssue> issues, List<String> selectedLabels) {
-        Map<String, List<PodTaskRow>> podData = new LinkedHashMap<>();
-        
-        // If no labels selected, group by all available labels in the issues
-        Set<String> labelsToProcess = selectedLabels.isEmpty() ? 
-            issues.stream()
-                .filter(issue -> issue.getLabels() != null)
-                .flatMap(issue -> Arrays.stream(issue.getLabels().split(",")))
-                .map(String::trim)
-                .collect(Collectors.toSet()) :
-            new HashSet<>(selectedLabels);
-        
-        // Group issues by actual label names
-        for (String label : labelsToProcess) {
-            List<JiraIssue> labelIssues = issues.stream()
-                    .filter(issue -> issue.getLabels() != null && 
-                            issue.getLabels().contains(label))
-                    .collect(Collectors.toList());
-            
-            List<PodTaskRow> labelTasks = labelIssues.stream()
-                    .map(this::createPodTaskRow)
-                    .collect(Collectors.toList());
+    private static final class LabelGroup {
+        private final List<String> selectedLabels;
+        private final Map<String, List<PodTaskRow>> labelIndex = new HashMap<>();
+        private final List<JiraIssue> issues = new ArrayList<>();
+        private int lastIssue = -1;
+
+        LabelGroup(List<String> selectedLabels) {
+            this.selectedLabels = selectedLabels;
+        }
+
+        void add(String label, PodTaskRow row, JiraIssue issue, int issueIndex) {
+            labelIndex.computeIfAbsent(label, k -> new ArrayList<>()).add(row);
+            if (lastIssue != issueIndex) {
+                issues.add(issue);
+                lastIssue = issueIndex;
+            }
+        }
+
+        boolean isAllLabels() {
+            return selectedLabels == null;
+        }
+
+        List<JiraIssue> getIssues() {
+            return issues;
+        }
+
+        /**
+         * Task rows by label, in selection order, or sorted case-insensitively for all labels
+         */
+        Map<String, List<PodTaskRow>> podData() {
+            List<String> orderedLabels;
+            if (selectedLabels != null) {
+                orderedLabels = new ArrayList<>(new LinkedHashSet<>(selectedLabels));
+            } else {
+                orderedLabels = new ArrayList<>(labelIndex.keySet());
+                orderedLabels.sort(String::compareToIgnoreCase);
+            }
             
-            if (!labelTasks.isEmpty()) {
-                podData.put(label, labelTasks);
+            Map<String, List<PodTaskRow>> podData = new LinkedHashMap<>();
+            for (String label : orderedLabels) {
+                List<PodTaskRow> labelTasks = labelIndex.get(label);
+                if (labelTasks != null) {
+                    podData.put(label, labelTasks);
+                }
             }
+            return podData;
         }
-        
-        return podData;
     }
 
     /**
@@ -207,42 +385,46 @@ public class SingleSnapshotService {
     }
 
     /**
-     * Get available labels for selection - fetches directly from Jira API
+     * Get available labels for selection from the label catalog
      */
     public List<String> getAvailableLabels() {
-        log.info("Getting available labels directly from Jira API...");
-        
-        try {
-            // Fetch all issues from Jira API (last 6 months for performance)
-            LocalDate endDate = LocalDate.now();
-            LocalDate startDate = endDate.minusMonths(6);
-            
-            List<JiraIssue> allIssues = jiraApiService.fetchIssuesByDateRange(startDate, endDate);
-            log.info("Fetched {} issues from Jira API for label extraction", allIssues.size());
-            
-            // Use a Set for faster deduplication
-            Set<String> labelSet = new HashSet<>();
-            
-            // Extract labels from all issues
-            allIssues.parallelStream()
-                    .filter(issue -> issue.getLabels() != null && !issue.getLabels().isEmpty())
-                    .forEach(issue -> {
-                        String[] labels = issue.getLabels().split(", ");
-                        synchronized (labelSet) {
-                            labelSet.addAll(Arrays.asList(labels));
-                        }
-                    });
-            
-            List<String> result = new ArrayList<>(labelSet);
-            result.sort(String::compareToIgnoreCase);
-            
-            log.info("Found {} unique labels from Jira API", result.size());
-            return result;
-            
-        } catch (Exception e) {
-            log.error("Error fetching labels from Jira API", e);
-            throw new RuntimeException("Failed to fetch labels from Jira API: " + e.getMessage(), e);
+        // Served from the in-memory catalog maintained by sync and snapshot fetches
+        List<String> labels = labelCatalogService.getLabelNames();
+        log.debug("Found {} labels in label catalog", labels.size());
+        return labels;
+    }
+
+    /**
+     * Per-label models for the snapshot, built on first use and kept on the sheet so every
+     * layout and summary rendered from the same (possibly cached) snapshot shares them
+     */
+    public List<SnapshotLabelModel> getLabelModels(SingleSnapshotSheet snapshot) {
+        List<SnapshotLabelModel> models = snapshot.labelModels;
+        if (models == null) {
+            Map<String, String> roles = new HashMap<>();
+            models = new ArrayList<>(snapshot.getLabels().size());
+            for (String label : snapshot.getLabels()) {
+                SnapshotLabelModel model = SnapshotLabelModel.of(label, snapshot.getPodData().get(label),
+                        assignee -> roles.computeIfAbsent(assignee, assigneeDirectory::roleOf));
+                log.debug("Label: {} - Total tasks: {}, Team resources: {}",
+                        label, model.getTaskCount(), model.getResources());
+                models.add(model);
+            }
+            models = Collections.unmodifiableList(models);
+            snapshot.labelModels = models;
+        }
+        return models;
+    }
+
+    /**
+     * Task counts per status across all labels of the snapshot
+     */
+    public Map<String, Long> getStatusBreakdown(SingleSnapshotSheet snapshot) {
+        Map<String, Long> statusCounts = new HashMap<>();
+        for (SnapshotLabelModel model : getLabelModels(snapshot)) {
+            model.getStatusCounts().forEach((status, count) -> statusCounts.merge(status, (long) count, Long::sum));
         }
+        return statusCounts;
     }
 
     /**
@@ -252,42 +434,22 @@ public class SingleSnapshotService {
         List<List<Object>> sheetsData = new ArrayList<>();
         
         // Process each Label separately
-        for (Map.Entry<String, List<PodTaskRow>> labelEntry : snapshot.getPodData().entrySet()) {
-            String labelName = labelEntry.getKey();
-            List<PodTaskRow> tasks = labelEntry.getValue();
-            
-            if (tasks.isEmpty()) continue;
+        for (SnapshotLabelModel model : getLabelModels(snapshot)) {
+            if (model.isEmpty()) continue;
             
             // Add Label Name Header (actual label like "OE-OfflinePayments")
-            sheetsData.add(Arrays.asList(labelName, "", "", "", "", "", ""));
-            
-            // Get unique team resources (assignees) who have tasks under this label
-            Set<String> uniqueAssignees = tasks.stream()
-                    .map(PodTaskRow::getAssignee)
-                    .filter(assignee -> assignee != null && !assignee.trim().isEmpty() && !assignee.equals("Unassigned"))
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
-            
-            // Debug: Show all assignees before filtering
-            Set<String> allAssignees = tasks.stream()
-                    .map(PodTaskRow::getAssignee)
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
-            
-            log.info("Label: {} - Total tasks: {}, All assignees (including null/empty): {}, Filtered assignees: {}", 
-                    labelName, tasks.size(), allAssignees.size(), uniqueAssignees.size());
-            log.debug("All assignees for label {}: {}", labelName, allAssignees);
-            log.debug("Filtered assignees for label {}: {}", labelName, uniqueAssignees);
+            sheetsData.add(Arrays.asList(model.getLabel(), "", "", "", "", "", ""));
             
             // Add Team Resources Header
             sheetsData.add(Arrays.asList("Team Resources", "Role", "Team Resources", "Role", "Team Resources", "Role", "Team Resources"));
             
             // Add Team Resources Data (people who have tasks under this label)
-            List<String> assigneeList = new ArrayList<>(uniqueAssignees);
-            for (int i = 0; i < assigneeList.size(); i += 4) {
-                List<Object> resourceRow = new ArrayList<>();
+            for (int i = 0; i < model.getResourceCount(); i += 4) {
+                List<Object> resourceRow = new ArrayList<>(8);
                 for (int j = 0; j < 4; j++) {
-                    if (i + j < assigneeList.size()) {
-                        resourceRow.add(assigneeList.get(i + j));
-                        resourceRow.add(getAssigneeRole(assigneeList.get(i + j)));
+                    if (i + j < model.getResourceCount()) {
+                        resourceRow.add(model.getResource(i + j));
+                        resourceRow.add(model.getRole(i + j));
                     } else {
                         resourceRow.add("");
                         resourceRow.add("");
@@ -300,13 +462,12 @@ public class SingleSnapshotService {
             sheetsData.add(Arrays.asList("Tasks", "Status", "Tasks", "Status", "Tasks", "Status", "Tasks"));
             
             // Add Tasks Data (all tasks under this label)
-            for (int i = 0; i < tasks.size(); i += 4) {
-                List<Object> taskRow = new ArrayList<>();
+            for (int i = 0; i < model.getTaskCount(); i += 4) {
+                List<Object> taskRow = new ArrayList<>(8);
                 for (int j = 0; j < 4; j++) {
-                    if (i + j < tasks.size()) {
-                        PodTaskRow task = tasks.get(i + j);
-                        taskRow.add(task.getTaskName());
-                        taskRow.add(task.getStatus());
+                    if (i + j < model.getTaskCount()) {
+                        taskRow.add(model.getTaskName(i + j));
+                        taskRow.add(model.getTaskStatus(i + j));
                     } else {
                         taskRow.add("");
                         taskRow.add("");
@@ -328,125 +489,83 @@ public class SingleSnapshotService {
      */
     public List<List<Object>> convertToHorizontalLayout(SingleSnapshotSheet snapshot) {
         List<List<Object>> horizontalData = new ArrayList<>();
-        
-        // Get all labels and their data
-        List<String> labels = new ArrayList<>(snapshot.getPodData().keySet());
-        if (labels.isEmpty()) {
-            return horizontalData;
+        writeHorizontalLayout(snapshot, horizontalData::add);
+        return horizontalData;
+    }
+    
+    /**
+     * Emit the horizontal layout row by row, so exports can stream without holding the whole table
+     */
+    public void writeHorizontalLayout(SingleSnapshotSheet snapshot, Consumer<List<Object>> rows) {
+        List<SnapshotLabelModel> models = getLabelModels(snapshot);
+        if (models.isEmpty()) {
+            return;
         }
         
-        // Calculate max columns needed (each label needs 2 columns: Name and Role/Status)
-        int totalColumns = labels.size() * 2;
+        // Each label needs 2 columns: Name and Role/Status
+        int totalColumns = models.size() * 2;
         
         // Add label headers row
-        List<Object> labelHeaderRow = new ArrayList<>();
-        for (String label : labels) {
-            labelHeaderRow.add(label);
+        List<Object> labelHeaderRow = new ArrayList<>(totalColumns);
+        for (SnapshotLabelModel model : models) {
+            labelHeaderRow.add(model.getLabel());
             labelHeaderRow.add(""); // Empty column for spacing
         }
-        horizontalData.add(labelHeaderRow);
+        rows.accept(labelHeaderRow);
         
         // Add empty row for spacing
-        List<Object> emptyRow = new ArrayList<>(Collections.nCopies(totalColumns, ""));
-        horizontalData.add(emptyRow);
+        rows.accept(new ArrayList<>(Collections.nCopies(totalColumns, "")));
         
         // Add Team Resources header row
-        List<Object> teamResourcesHeaderRow = new ArrayList<>();
-        for (String label : labels) {
+        List<Object> teamResourcesHeaderRow = new ArrayList<>(totalColumns);
+        for (int i = 0; i < models.size(); i++) {
             teamResourcesHeaderRow.add("Team Resources");
             teamResourcesHeaderRow.add("Role");
         }
-        horizontalData.add(teamResourcesHeaderRow);
-        
-        // Get team resources for each label
-        Map<String, List<String>> labelResources = new HashMap<>();
-        Map<String, List<String>> labelResourceRoles = new HashMap<>();
-        int maxResourceRows = 0;
-        
-        for (String label : labels) {
-            List<PodTaskRow> tasks = snapshot.getPodData().get(label);
-            Set<String> uniqueAssignees = tasks.stream()
-                    .map(PodTaskRow::getAssignee)
-                    .filter(assignee -> assignee != null && !assignee.trim().isEmpty() && !assignee.equals("Unassigned"))
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
-            
-            List<String> resources = new ArrayList<>(uniqueAssignees);
-            List<String> roles = resources.stream()
-                    .map(this::getAssigneeRole)
-                    .collect(Collectors.toList());
-            
-            labelResources.put(label, resources);
-            labelResourceRoles.put(label, roles);
-            maxResourceRows = Math.max(maxResourceRows, resources.size());
-        }
+        rows.accept(teamResourcesHeaderRow);
         
         // Add team resources data rows
+        int maxResourceRows = models.stream().mapToInt(SnapshotLabelModel::getResourceCount).max().orElse(0);
         for (int i = 0; i < maxResourceRows; i++) {
-            List<Object> resourceRow = new ArrayList<>();
-            for (String label : labels) {
-                List<String> resources = labelResources.get(label);
-                List<String> roles = labelResourceRoles.get(label);
-                
-                if (i < resources.size()) {
-                    resourceRow.add(resources.get(i));
-                    resourceRow.add(roles.get(i));
+            List<Object> resourceRow = new ArrayList<>(totalColumns);
+            for (SnapshotLabelModel model : models) {
+                if (i < model.getResourceCount()) {
+                    resourceRow.add(model.getResource(i));
+                    resourceRow.add(model.getRole(i));
                 } else {
                     resourceRow.add("");
                     resourceRow.add("");
                 }
             }
-            horizontalData.add(resourceRow);
+            rows.accept(resourceRow);
         }
         
         // Add empty row for spacing
-        horizontalData.add(new ArrayList<>(Collections.nCopies(totalColumns, "")));
+        rows.accept(new ArrayList<>(Collections.nCopies(totalColumns, "")));
         
         // Add Tasks header row
-        List<Object> tasksHeaderRow = new ArrayList<>();
-        for (String label : labels) {
+        List<Object> tasksHeaderRow = new ArrayList<>(totalColumns);
+        for (int i = 0; i < models.size(); i++) {
             tasksHeaderRow.add("Tasks");
             tasksHeaderRow.add("Status");
         }
-        horizontalData.add(tasksHeaderRow);
-        
-        // Get tasks for each label
-        Map<String, List<String>> labelTasks = new HashMap<>();
-        Map<String, List<String>> labelTaskStatuses = new HashMap<>();
-        int maxTaskRows = 0;
-        
-        for (String label : labels) {
-            List<PodTaskRow> tasks = snapshot.getPodData().get(label);
-            List<String> taskNames = tasks.stream()
-                    .map(PodTaskRow::getTaskName)
-                    .collect(Collectors.toList());
-            List<String> taskStatuses = tasks.stream()
-                    .map(PodTaskRow::getStatus)
-                    .collect(Collectors.toList());
-            
-            labelTasks.put(label, taskNames);
-            labelTaskStatuses.put(label, taskStatuses);
-            maxTaskRows = Math.max(maxTaskRows, taskNames.size());
-        }
+        rows.accept(tasksHeaderRow);
         
         // Add tasks data rows
+        int maxTaskRows = models.stream().mapToInt(SnapshotLabelModel::getTaskCount).max().orElse(0);
         for (int i = 0; i < maxTaskRows; i++) {
-            List<Object> taskRow = new ArrayList<>();
-            for (String label : labels) {
-                List<String> tasks = labelTasks.get(label);
-                List<String> statuses = labelTaskStatuses.get(label);
-                
-                if (i < tasks.size()) {
-                    taskRow.add(tasks.get(i));
-                    taskRow.add(statuses.get(i));
+            List<Object> taskRow = new ArrayList<>(totalColumns);
+            for (SnapshotLabelModel model : models) {
+                if (i < model.getTaskCount()) {
+                    taskRow.add(model.getTaskName(i));
+                    taskRow.add(model.getTaskStatus(i));
                 } else {
                     taskRow.add("");
                     taskRow.add("");
                 }
             }
-            horizontalData.add(taskRow);
+            rows.accept(taskRow);
         }
-        
-        return horizontalData;
     }
     
     /**
@@ -463,34 +582,24 @@ public class SingleSnapshotService {
         verticalData.add(Arrays.asList("", "", "", "")); // Empty separator
         
         // Process each Label vertically
-        for (Map.Entry<String, List<PodTaskRow>> labelEntry : snapshot.getPodData().entrySet()) {
-            String labelName = labelEntry.getKey();
-            List<PodTaskRow> tasks = labelEntry.getValue();
-            
-            if (tasks.isEmpty()) continue;
+        for (SnapshotLabelModel model : getLabelModels(snapshot)) {
+            if (model.isEmpty()) continue;
             
             // Add Label Header
-            verticalData.add(Arrays.asList(labelName, "LABEL", labelName, ""));
-            
-            // Get unique team resources (assignees) who have tasks under this label
-            Set<String> uniqueAssignees = tasks.stream()
-                    .map(PodTaskRow::getAssignee)
-                    .filter(assignee -> assignee != null && !assignee.trim().isEmpty() && !assignee.equals("Unassigned"))
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            verticalData.add(Arrays.asList(model.getLabel(), "LABEL", model.getLabel(), ""));
             
             // Add Team Resources Section
-            if (!uniqueAssignees.isEmpty()) {
+            if (model.getResourceCount() > 0) {
                 verticalData.add(Arrays.asList("", "TEAM_RESOURCES", "Team Resources", ""));
-                for (String assignee : uniqueAssignees) {
-                    String role = getAssigneeRole(assignee);
-                    verticalData.add(Arrays.asList("", "RESOURCE", assignee, role));
+                for (int i = 0; i < model.getResourceCount(); i++) {
+                    verticalData.add(Arrays.asList("", "RESOURCE", model.getResource(i), model.getRole(i)));
                 }
             }
             
             // Add Tasks Section
             verticalData.add(Arrays.asList("", "TASKS", "Tasks", ""));
-            for (PodTaskRow task : tasks) {
-                verticalData.add(Arrays.asList("", "TASK", task.getTaskName(), task.getStatus()));
+            for (int i = 0; i < model.getTaskCount(); i++) {
+                verticalData.add(Arrays.asList("", "TASK", model.getTaskName(i), model.getTaskStatus(i)));
             }
             
             // Add separator between labels
@@ -500,49 +609,18 @@ public class SingleSnapshotService {
         return verticalData;
     }
     
-    /**
-     * Get role based on assignee name (simplified mapping)
-     */
-    private String getAssigneeRole(String assignee) {
-        if (assignee == null || assignee.trim().isEmpty()) {
-            return "DEV";
-        }
-        
-        // Simple role mapping based on common patterns
-        String name = assignee.toLowerCase();
-        if (name.contains("tushar") || name.contains("mann")) {
-            return "TL";
-        } else if (name.contains("syed") || name.contains("kashif")) {
-            return "SSE";
-        } else if (name.contains("navjot") || name.contains("singh")) {
-            return "SSE";
-        } else if (name.contains("praharsh")) {
-            return "EM";
-        } else if (name.contains("prince") || name.contains("puri")) {
-            return "TL";
-        } else if (name.contains("swati") || name.contains("verma")) {
-            return "SSE";
-        } else if (name.contains("siddharth") || name.contains("bhardwaj")) {
-            return "Intern";
-        } else if (name.contains("ashutosh") || name.contains("jaiswal")) {
-            return "SSE";
-        } else if (name.contains("oshi")) {
-            return "SSE";
-        } else if (name.contains("tanish")) {
-            return "SSE";
-        } else {
-            return "DEV"; // Default role
-        }
-    }
-
     // Data classes for Single Snapshot
     public static class SingleSnapshotSheet {
         public String title;
         public LocalDate generatedDate;
         public List<String> selectedLabels;
         public Map<String, Object> dateRange;
+        public List<String> labels;
         public Map<String, List<PodTaskRow>> podData;
         public int totalTasks;
+        public long version;
+        // Derived per-label models, filled in lazily by SingleSnapshotService.getLabelModels
+        volatile List<SnapshotLabelModel> labelModels;
 
         public static SingleSnapshotSheetBuilder builder() {
             return new SingleSnapshotSheetBuilder();
@@ -571,6 +649,11 @@ public class SingleSnapshotService {
                 return this;
             }
 
+            public SingleSnapshotSheetBuilder labels(List<String> labels) {
+                sheet.labels = labels;
+                return this;
+            }
+
             public SingleSnapshotSheetBuilder podData(Map<String, List<PodTaskRow>> podData) {
                 sheet.podData = podData;
                 return this;
@@ -591,8 +674,10 @@ public class SingleSnapshotService {
         public LocalDate getGeneratedDate() { return generatedDate; }
         public List<String> getSelectedLabels() { return selectedLabels; }
         public Map<String, Object> getDateRange() { return dateRange; }
+        public List<String> getLabels() { return labels; }
         public Map<String, List<PodTaskRow>> getPodData() { return podData; }
         public int getTotalTasks() { return totalTasks; }
+        public long getVersion() { return version; }
     }
 
     public static class PodTaskRow {
@@ -0,0 +1,39 @@
+package com.paytm.jiradashboard.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Named label groups for the batch snapshot, e.g.
+ * app.snapshot-batch.groups.offline-payments=OE_*,OE-OfflinePayments
+ */
+@Component
+@ConfigurationProperties(prefix = "app.snapshot-batch")
+@Data
+public class SnapshotBatchProperties {
+
+    /**
+     * Whether the scheduled batch runs; the batch endpoint works either way
+     */
+    private boolean enabled = false;
+
+    /**
+     * Days before today covered by the scheduled batch
+     */
+    private int lookbackDays = 30;
+
+    /**
+     * Batch results kept for the day; the least recently used is dropped beyond this
+     */
+    private int maxCachedResults = 10;
+
+    /**
+     * Label selections (exact names or prefix/glob patterns) by group name
+     */
+    private Map<String, List<String>> groups = new LinkedHashMap<>();
+}
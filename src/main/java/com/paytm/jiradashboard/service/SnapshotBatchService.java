@@ -0,0 +1,138 @@
+package com.paytm.jiradashboard.service;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Generates single snapshots for many named label groups in one pass and keeps the results
+ * for the rest of the day, so the morning run serves every pod without further Jira fetches.
+ * Only the most recently used results are kept, up to app.snapshot-batch.max-cached-results.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotBatchService {
+
+    private final SingleSnapshotService snapshotService;
+    private final SnapshotBatchProperties properties;
+
+    // Access-ordered, so the least recently used result is evicted first
+    private final LinkedHashMap<String, BatchResult> results = new LinkedHashMap<>(16, 0.75f, true);
+    private LocalDate resultsDay = LocalDate.now();
+    private volatile BatchResult latestScheduled;
+
+    /**
+     * Batch for the given groups and range, served from today's results unless refresh is set
+     */
+    public BatchResult generate(Map<String, List<String>> groups, LocalDate startDate, LocalDate endDate, boolean refresh) {
+        String key = cacheKey(groups, startDate, endDate);
+        if (!refresh) {
+            BatchResult cached = cached(key);
+            if (cached != null) {
+                log.info("Serving snapshot batch for {} groups from today's results", groups.size());
+                return cached;
+            }
+        }
+
+        long start = System.nanoTime();
+        Map<String, SingleSnapshotService.SingleSnapshotSheet> snapshots =
+                snapshotService.generateSnapshotBatch(groups, startDate, endDate);
+        BatchResult result = new BatchResult(snapshots, startDate, endDate, Instant.now());
+        log.info("Generated snapshot batch for {} groups in {} ms", snapshots.size(), (System.nanoTime() - start) / 1_000_000);
+
+        store(key, result);
+        return result;
+    }
+
+    /**
+     * Batch over the configured groups for the configured lookback window
+     */
+    public BatchResult generateConfigured(boolean refresh) {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(properties.getLookbackDays());
+        return generate(properties.getGroups(), startDate, endDate, refresh);
+    }
+
+    @Scheduled(cron = "${app.snapshot-batch.cron:0 30 8 * * MON-FRI}")
+    public void generateScheduledBatch() {
+        if (!properties.isEnabled() || properties.getGroups().isEmpty()) {
+            log.debug("Scheduled snapshot batch is disabled or has no groups configured");
+            return;
+        }
+        try {
+            latestScheduled = generateConfigured(true);
+        } catch (Exception e) {
+            log.error("Scheduled snapshot batch failed", e);
+        }
+    }
+
+    public Optional<BatchResult> getLatestScheduled() {
+        return Optional.ofNullable(latestScheduled);
+    }
+
+    public Map<String, List<String>> getConfiguredGroups() {
+        return properties.getGroups();
+    }
+
+    private synchronized BatchResult cached(String key) {
+        rollOverDay();
+        return results.get(key);
+    }
+
+    private synchronized void store(String key, BatchResult result) {
+        rollOverDay();
+        results.put(key, result);
+        Iterator<BatchResult> leastRecent = results.values().iterator();
+        while (results.size() > properties.getMaxCachedResults() && leastRecent.hasNext()) {
+            leastRecent.next();
+            leastRecent.remove();
+        }
+    }
+
+    private void rollOverDay() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(resultsDay)) {
+            results.clear();
+            resultsDay = today;
+        }
+    }
+
+    private static String cacheKey(Map<String, List<String>> groups, LocalDate startDate, LocalDate endDate) {
+        return new TreeMap<>(groups) + "|" + startDate + "|" + endDate;
+    }
+
+    @Data
+    public static class BatchResult {
+        private final Map<String, SingleSnapshotService.SingleSnapshotSheet> snapshots;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Instant generatedAt;
+
+        public Map<String, Object> toSummaryMap() {
+            Map<String, Object> groups = new LinkedHashMap<>();
+            snapshots.forEach((name, sheet) -> groups.put(name, Map.of(
+                    "title", sheet.getTitle(),
+                    "selectedLabels", sheet.getSelectedLabels(),
+                    "labels", sheet.getLabels(),
+                    "totalTasks", sheet.getTotalTasks(),
+                    "totalPods", sheet.getPodData().size(),
+                    "version", sheet.getVersion()
+            )));
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("startDate", startDate.toString());
+            summary.put("endDate", endDate.toString());
+            summary.put("generatedAt", generatedAt.toString());
+            summary.put("totalGroups", snapshots.size());
+            summary.put("groups", groups);
+            return summary;
+        }
+    }
+}
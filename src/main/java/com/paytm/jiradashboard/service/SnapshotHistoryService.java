@@ -0,0 +1,222 @@
+package com.paytm.jiradashboard.service;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Bounded history of generated single snapshots, kept as compact per-label arrays sorted by
+ * Jira key. Each generated snapshot gets a version number; two versions are compared with a
+ * sorted merge per label instead of regenerating either one from Jira. Versions are capped per
+ * label selection, so frequently generated selections do not push out the history of others,
+ * and only the most recently generated selections are kept.
+ */
+@Service
+@Slf4j
+public class SnapshotHistoryService {
+
+    @Value("${app.snapshot-history.max-versions-per-selection:50}")
+    private int maxVersionsPerSelection;
+
+    @Value("${app.snapshot-history.max-selections:20}")
+    private int maxSelections;
+
+    private final LinkedHashMap<Long, StoredSnapshot> versions = new LinkedHashMap<>();
+    // Version numbers per selection key, oldest first; iteration order is least recently recorded first
+    private final LinkedHashMap<String, Deque<Long>> versionsBySelection = new LinkedHashMap<>();
+    private long lastVersion;
+
+    /**
+     * Store a compact copy of the snapshot and return its version number
+     */
+    public synchronized long record(SingleSnapshotService.SingleSnapshotSheet sheet) {
+        long version = ++lastVersion;
+        Map<String, LabelTasks> byLabel = new LinkedHashMap<>();
+        for (String label : sheet.getLabels()) {
+            byLabel.put(label, LabelTasks.of(sheet.getPodData().get(label)));
+        }
+        List<String> selectedLabels = List.copyOf(sheet.getSelectedLabels());
+        versions.put(version, new StoredSnapshot(version, Instant.now(), selectedLabels,
+                sheet.getDateRange(), sheet.getTotalTasks(), byLabel));
+
+        String selection = selectionKey(selectedLabels);
+        Deque<Long> selectionVersions = versionsBySelection.remove(selection);
+        if (selectionVersions == null) {
+            selectionVersions = new ArrayDeque<>();
+        }
+        versionsBySelection.put(selection, selectionVersions);
+        selectionVersions.addLast(version);
+        while (selectionVersions.size() > maxVersionsPerSelection) {
+            versions.remove(selectionVersions.removeFirst());
+        }
+
+        Iterator<Deque<Long>> leastRecent = versionsBySelection.values().iterator();
+        while (versionsBySelection.size() > maxSelections && leastRecent.hasNext()) {
+            leastRecent.next().forEach(versions::remove);
+            leastRecent.remove();
+        }
+        log.debug("Recorded single snapshot version {} with {} labels", version, byLabel.size());
+        return version;
+    }
+
+    public synchronized Optional<StoredSnapshot> get(long version) {
+        return Optional.ofNullable(versions.get(version));
+    }
+
+    /**
+     * Stored versions, newest first
+     */
+    public synchronized List<Map<String, Object>> list() {
+        List<Map<String, Object>> history = new ArrayList<>(versions.size());
+        for (StoredSnapshot snapshot : versions.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("version", snapshot.getVersion());
+            entry.put("createdAt", snapshot.getCreatedAt().toString());
+            entry.put("selectedLabels", snapshot.getSelectedLabels());
+            entry.put("dateRange", snapshot.getDateRange());
+            entry.put("totalTasks", snapshot.getTotalTasks());
+            entry.put("labels", snapshot.getByLabel().keySet());
+            history.add(entry);
+        }
+        Collections.reverse(history);
+        return history;
+    }
+
+    /**
+     * Why two versions cannot be compared, or empty when they share the same label selection
+     * and date range
+     */
+    public Optional<String> incompatibility(StoredSnapshot from, StoredSnapshot to) {
+        if (!selectionKey(from.getSelectedLabels()).equals(selectionKey(to.getSelectedLabels()))) {
+            return Optional.of("Versions " + from.getVersion() + " and " + to.getVersion()
+                    + " have different label selections: " + from.getSelectedLabels() + " vs " + to.getSelectedLabels());
+        }
+        if (!Objects.equals(from.getDateRange(), to.getDateRange())) {
+            return Optional.of("Versions " + from.getVersion() + " and " + to.getVersion()
+                    + " cover different date ranges: " + from.getDateRange() + " vs " + to.getDateRange());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Order-independent key of a label selection; an empty selection means all labels
+     */
+    static String selectionKey(Collection<String> selectedLabels) {
+        return String.join(",", new TreeSet<>(selectedLabels));
+    }
+
+    /**
+     * Added, removed and status-changed tasks per label between two stored versions;
+     * labels present in only one version show all of their tasks as added or removed
+     */
+    public Map<String, LabelDiff> diff(StoredSnapshot from, StoredSnapshot to) {
+        Set<String> labels = new LinkedHashSet<>(from.getByLabel().keySet());
+        labels.addAll(to.getByLabel().keySet());
+
+        Map<String, LabelDiff> diffs = new LinkedHashMap<>();
+        for (String label : labels) {
+            LabelDiff diff = LabelTasks.diff(from.getByLabel().getOrDefault(label, LabelTasks.EMPTY),
+                    to.getByLabel().getOrDefault(label, LabelTasks.EMPTY));
+            if (!diff.isEmpty()) {
+                diffs.put(label, diff);
+            }
+        }
+        return diffs;
+    }
+
+    @Data
+    public static class StoredSnapshot {
+        private final long version;
+        private final Instant createdAt;
+        private final List<String> selectedLabels;
+        private final Map<String, Object> dateRange;
+        private final int totalTasks;
+        private final Map<String, LabelTasks> byLabel;
+    }
+
+    /**
+     * Tasks of one label as parallel arrays sorted by Jira key
+     */
+    public static final class LabelTasks {
+
+        static final LabelTasks EMPTY = new LabelTasks(new String[0], new String[0], new String[0]);
+
+        private final String[] keys;
+        private final String[] names;
+        private final String[] statuses;
+
+        private LabelTasks(String[] keys, String[] names, String[] statuses) {
+            this.keys = keys;
+            this.names = names;
+            this.statuses = statuses;
+        }
+
+        static LabelTasks of(List<SingleSnapshotService.PodTaskRow> tasks) {
+            SingleSnapshotService.PodTaskRow[] sorted = tasks.stream()
+                    .filter(task -> task.getJiraKey() != null)
+                    .sorted(Comparator.comparing(SingleSnapshotService.PodTaskRow::getJiraKey))
+                    .toArray(SingleSnapshotService.PodTaskRow[]::new);
+            String[] keys = new String[sorted.length];
+            String[] names = new String[sorted.length];
+            String[] statuses = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = sorted[i].getJiraKey();
+                names[i] = sorted[i].getTaskName();
+                statuses[i] = sorted[i].getStatus();
+            }
+            return new LabelTasks(keys, names, statuses);
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        static LabelDiff diff(LabelTasks from, LabelTasks to) {
+            LabelDiff diff = new LabelDiff();
+            int i = 0;
+            int j = 0;
+            while (i < from.keys.length || j < to.keys.length) {
+                int cmp = i == from.keys.length ? 1
+                        : j == to.keys.length ? -1
+                        : from.keys[i].compareTo(to.keys[j]);
+                if (cmp < 0) {
+                    diff.removed.add(new TaskChange(from.keys[i], from.names[i], from.statuses[i], null));
+                    i++;
+                } else if (cmp > 0) {
+                    diff.added.add(new TaskChange(to.keys[j], to.names[j], null, to.statuses[j]));
+                    j++;
+                } else {
+                    if (!Objects.equals(from.statuses[i], to.statuses[j])) {
+                        diff.statusChanged.add(new TaskChange(to.keys[j], to.names[j], from.statuses[i], to.statuses[j]));
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            return diff;
+        }
+    }
+
+    @Data
+    public static class LabelDiff {
+        private final List<TaskChange> added = new ArrayList<>();
+        private final List<TaskChange> removed = new ArrayList<>();
+        private final List<TaskChange> statusChanged = new ArrayList<>();
+
+        boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty() && statusChanged.isEmpty();
+        }
+    }
+
+    @Data
+    public static class TaskChange {
+        private final String jiraKey;
+        private final String taskName;
+        private final String fromStatus;
+        private final String toStatus;
+    }
+}
@@ -0,0 +1,246 @@
+package com.paytm.jiradashboard.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs single snapshot generation as background jobs on a bounded executor so large reports
+ * do not hold HTTP threads, and streams their progress to subscribers over SSE
+ */
+@Service
+@Slf4j
+public class SnapshotJobService {
+
+    private static final long SSE_TIMEOUT_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private final SingleSnapshotService snapshotService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, SnapshotJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.snapshot-jobs.retention-minutes:30}")
+    private long retentionMinutes;
+
+    public SnapshotJobService(SingleSnapshotService snapshotService,
+                              @Value("${app.snapshot-jobs.max-concurrent:2}") int maxConcurrent,
+                              @Value("${app.snapshot-jobs.queue-capacity:10}") int queueCapacity) {
+        this.snapshotService = snapshotService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "snapshot-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queue a snapshot job; throws RejectedExecutionException when the queue is full
+     */
+    public SnapshotJob submit(List<String> labels, LocalDate startDate, LocalDate endDate) {
+        SnapshotJob job = new SnapshotJob(UUID.randomUUID().toString(), labels, startDate, endDate);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        log.info("Queued snapshot job {} for labels: {} and date range: {} to {}", job.getId(), labels, startDate, endDate);
+        return job;
+    }
+
+    public Optional<SnapshotJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Subscribe to a job's progress; the current state is sent immediately
+     */
+    public SseEmitter subscribe(SnapshotJob job) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(error -> job.emitters.remove(emitter));
+
+        job.emitters.add(emitter);
+        send(emitter, job, job.isFinished() ? eventName(job) : "progress");
+        if (job.isFinished()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void run(SnapshotJob job) {
+        job.status = JobStatus.RUNNING;
+        job.startedAt = Instant.now();
+        publish(job, "progress");
+        try {
+            job.sheet = snapshotService.generateSingleSnapshotByDateRange(
+                    job.getLabels(), job.getStartDate(), job.getEndDate(), new JobProgress(job));
+            // finishedAt is set before the terminal status, so a poll never sees one without the other
+            job.finishedAt = Instant.now();
+            job.status = JobStatus.COMPLETED;
+            log.info("Snapshot job {} completed with {} tasks", job.getId(), job.sheet.getTotalTasks());
+        } catch (Exception e) {
+            log.error("Snapshot job {} failed", job.getId(), e);
+            job.error = e.getMessage();
+            job.finishedAt = Instant.now();
+            job.status = JobStatus.FAILED;
+        } finally {
+            publish(job, eventName(job));
+            job.emitters.forEach(SseEmitter::complete);
+            job.emitters.clear();
+        }
+    }
+
+    private String eventName(SnapshotJob job) {
+        return job.getStatus() == JobStatus.FAILED ? "failed" : "completed";
+    }
+
+    private void publish(SnapshotJob job, String eventName) {
+        for (SseEmitter emitter : job.emitters) {
+            send(emitter, job, eventName);
+        }
+    }
+
+    private void send(SseEmitter emitter, SnapshotJob job, String eventName) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(job.toStatusMap()));
+        } catch (IOException | IllegalStateException e) {
+            job.emitters.remove(emitter);
+        }
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Forwards generation progress into the job counters and out to SSE subscribers
+     */
+    private class JobProgress implements SnapshotProgressListener {
+        private final SnapshotJob job;
+
+        JobProgress(SnapshotJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void onPage(int page, int fetched, int total) {
+            job.pagesFetched = page;
+            job.issuesFetched = fetched;
+            job.issuesTotal = total;
+            publish(job, "progress");
+        }
+
+        @Override
+        public void onIssuesProcessed(int issues) {
+            job.issuesProcessed = issues;
+            publish(job, "progress");
+        }
+
+        @Override
+        public void onLabelsGrouped(int labels) {
+            job.labelsGrouped = labels;
+            publish(job, "progress");
+        }
+    }
+
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static class SnapshotJob {
+        private final String id;
+        private final List<String> labels;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Instant createdAt = Instant.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile int pagesFetched;
+        private volatile int issuesFetched;
+        private volatile int issuesTotal;
+        private volatile int issuesProcessed;
+        private volatile int labelsGrouped;
+        private volatile SingleSnapshotService.SingleSnapshotSheet sheet;
+        private volatile String error;
+
+        SnapshotJob(String id, List<String> labels, LocalDate startDate, LocalDate endDate) {
+            this.id = id;
+            this.labels = List.copyOf(labels);
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        public Map<String, Object> toStatusMap() {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("jobId", id);
+            status.put("status", this.status.name());
+            status.put("labels", labels);
+            status.put("startDate", startDate.toString());
+            status.put("endDate", endDate.toString());
+            status.put("pagesFetched", pagesFetched);
+            status.put("issuesFetched", issuesFetched);
+            status.put("issuesTotal", issuesTotal);
+            status.put("issuesProcessed", issuesProcessed);
+            status.put("labelsGrouped", labelsGrouped);
+            status.put("createdAt", createdAt.toString());
+            if (startedAt != null) {
+                status.put("startedAt", startedAt.toString());
+            }
+            if (finishedAt != null) {
+                status.put("finishedAt", finishedAt.toString());
+            }
+            if (sheet != null) {
+                status.put("totalTasks", sheet.getTotalTasks());
+                status.put("totalPods", sheet.getPodData().size());
+                status.put("version", sheet.getVersion());
+            }
+            if (error != null) {
+                status.put("error", error);
+            }
+            return status;
+        }
+
+        public boolean isFinished() {
+            return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+        }
+
+        // Getters
+        public String getId() { return id; }
+        public List<String> getLabels() { return labels; }
+        public LocalDate getStartDate() { return startDate; }
+        public LocalDate getEndDate() { return endDate; }
+        public JobStatus getStatus() { return status; }
+        public SingleSnapshotService.SingleSnapshotSheet getSheet() { return sheet; }
+        public String getError() { return error; }
+    }
+}
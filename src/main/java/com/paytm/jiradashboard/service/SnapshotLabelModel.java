@@ -0,0 +1,78 @@
+package com.paytm.jiradashboard.service;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Per-label view of a single snapshot, computed once and shared by every output layout:
+ * the team resources with their roles, the status tallies and the task columns.
+ */
+public final class SnapshotLabelModel {
+
+    private final String label;
+    private final SingleSnapshotService.PodTaskRow[] tasks;
+    private final String[] taskNames;
+    private final String[] taskStatuses;
+    private final String[] resources;
+    private final String[] roles;
+    private final Map<String, Integer> statusCounts;
+
+    private SnapshotLabelModel(String label, SingleSnapshotService.PodTaskRow[] tasks, String[] taskNames,
+                               String[] taskStatuses, String[] resources, String[] roles,
+                               Map<String, Integer> statusCounts) {
+        this.label = label;
+        this.tasks = tasks;
+        this.taskNames = taskNames;
+        this.taskStatuses = taskStatuses;
+        this.resources = resources;
+        this.roles = roles;
+        this.statusCounts = statusCounts;
+    }
+
+    /**
+     * Build the model in a single pass over the label's tasks; roles are resolved through the
+     * given lookup, which callers share across labels so each assignee is resolved once
+     */
+    static SnapshotLabelModel of(String label, List<SingleSnapshotService.PodTaskRow> rows,
+                                 Function<String, String> roleLookup) {
+        int size = rows.size();
+        SingleSnapshotService.PodTaskRow[] tasks = rows.toArray(new SingleSnapshotService.PodTaskRow[0]);
+        String[] taskNames = new String[size];
+        String[] taskStatuses = new String[size];
+        Set<String> uniqueAssignees = new LinkedHashSet<>();
+        Map<String, Integer> statusCounts = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            SingleSnapshotService.PodTaskRow task = tasks[i];
+            taskNames[i] = task.getTaskName();
+            taskStatuses[i] = task.getStatus();
+            statusCounts.merge(task.getStatus(), 1, Integer::sum);
+
+            String assignee = task.getAssignee();
+            if (assignee != null && !assignee.trim().isEmpty() && !assignee.equals("Unassigned")) {
+                uniqueAssignees.add(assignee);
+            }
+        }
+
+        String[] resources = uniqueAssignees.toArray(new String[0]);
+        String[] roles = new String[resources.length];
+        for (int i = 0; i < resources.length; i++) {
+            roles[i] = roleLookup.apply(resources[i]);
+        }
+
+        return new SnapshotLabelModel(label, tasks, taskNames, taskStatuses, resources, roles,
+                Collections.unmodifiableMap(statusCounts));
+    }
+
+    public String getLabel() { return label; }
+    public int getTaskCount() { return tasks.length; }
+    public boolean isEmpty() { return tasks.length == 0; }
+    public SingleSnapshotService.PodTaskRow getTask(int index) { return tasks[index]; }
+    public String getTaskName(int index) { return taskNames[index]; }
+    public String getTaskStatus(int index) { return taskStatuses[index]; }
+    public int getResourceCount() { return resources.length; }
+    public String getResource(int index) { return resources[index]; }
+    public String getRole(int index) { return roles[index]; }
+    public List<String> getResources() { return Collections.unmodifiableList(Arrays.asList(resources)); }
+    public Map<String, Integer> getStatusCounts() { return statusCounts; }
+}
@@ -0,0 +1,19 @@
+package com.paytm.jiradashboard.service;
+
+/**
+ * Receives progress updates while a single snapshot is being generated
+ */
+public interface SnapshotProgressListener extends JiraApiService.PageListener {
+
+    SnapshotProgressListener NONE = new SnapshotProgressListener() { };
+
+    @Override
+    default void onPage(int page, int fetched, int total) {
+    }
+
+    default void onIssuesProcessed(int issues) {
+    }
+
+    default void onLabelsGrouped(int labels) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.event.IssuesSyncedEvent;
+import com.paytm.jiradashboard.model.JiraIssue;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Cache of single snapshot results keyed by the label selection (in selection order) and date range.
+ * Entries expire after a TTL, are evicted least-recently-used once the total number of cached
+ * issues exceeds the configured bound, and are dropped whenever issues are synced from Jira.
+ * The cached issue lists are also kept so an overlapping range can be extended with a delta fetch.
+ */
+@Service
+@Slf4j
+public class SnapshotResultCache {
+
+    @Value("${app.snapshot-cache.ttl-minutes:15}")
+    private long ttlMinutes;
+
+    @Value("${app.snapshot-cache.max-issues:50000}")
+    private int maxCachedIssues;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int cachedIssues;
+
+    public synchronized Optional<SingleSnapshotService.SingleSnapshotSheet> get(List<String> labels, LocalDate startDate, LocalDate endDate) {
+        Key key = Key.of(labels, startDate, endDate);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            remove(key);
+            return Optional.empty();
+        }
+        log.debug("Snapshot cache hit for {}", key);
+        return Optional.of(entry.getSheet());
+    }
+
+    /**
+     * Find a live entry for the same label set, in any order, whose range overlaps the requested
+     * one, preferring the entry that covers the most days of the requested range
+     */
+    public synchronized Optional<Entry> findOverlapping(List<String> labels, LocalDate startDate, LocalDate endDate) {
+        String labelSet = Key.labelSet(labels);
+        Entry best = null;
+        long bestOverlap = 0;
+        for (Entry entry : entries.values()) {
+            if (!entry.getKey().getLabelSet().equals(labelSet) || isExpired(entry)) {
+                continue;
+            }
+            LocalDate overlapStart = max(startDate, entry.getKey().getStartDate());
+            LocalDate overlapEnd = min(endDate, entry.getKey().getEndDate());
+            long overlap = ChronoUnit.DAYS.between(overlapStart, overlapEnd) + 1;
+            if (overlap > bestOverlap) {
+                best = entry;
+                bestOverlap = overlap;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public synchronized void put(List<String> labels, LocalDate startDate, LocalDate endDate,
+                                 List<JiraIssue> issues, SingleSnapshotService.SingleSnapshotSheet sheet) {
+        Key key = Key.of(labels, startDate, endDate);
+        remove(key);
+
+        Entry entry = new Entry(key, List.copyOf(issues), sheet, Instant.now());
+        entries.put(key, entry);
+        cachedIssues += entry.weight();
+        evict();
+    }
+
+    @EventListener
+    public synchronized void onIssuesSynced(IssuesSyncedEvent event) {
+        if (!entries.isEmpty()) {
+            log.info("Invalidating {} cached snapshots after Jira sync", entries.size());
+        }
+        entries.clear();
+        cachedIssues = 0;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        return Map.of(
+                "entries", entries.size(),
+                "cachedIssues", cachedIssues,
+                "maxCachedIssues", maxCachedIssues,
+                "ttlMinutes", ttlMinutes
+        );
+    }
+
+    private void evict() {
+        entries.values().removeIf(entry -> {
+            if (isExpired(entry)) {
+                cachedIssues -= entry.weight();
+                return true;
+            }
+            return false;
+        });
+
+        // Least recently used entries come first in access order
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (cachedIssues > maxCachedIssues && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            iterator.remove();
+            cachedIssues -= entry.weight();
+            log.debug("Evicted snapshot cache entry {}", entry.getKey());
+        }
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            cachedIssues -= removed.weight();
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return entry.getCreatedAt().plus(Duration.ofMinutes(ttlMinutes)).isBefore(Instant.now());
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Labels keep the selection order because the cached sheet lists labels and POD data in
+     * that order; labelSet is the sorted form used to reuse issues across orderings
+     */
+    @Data
+    public static class Key {
+        private final String labels;
+        private final String labelSet;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+
+        static Key of(List<String> labels, LocalDate startDate, LocalDate endDate) {
+            return new Key(String.join(",", new LinkedHashSet<>(labels)), labelSet(labels), startDate, endDate);
+        }
+
+        static String labelSet(List<String> labels) {
+            return String.join(",", new TreeSet<>(labels));
+        }
+    }
+
+    @Data
+    public static class Entry {
+        private final Key key;
+        private final List<JiraIssue> issues;
+        private final SingleSnapshotService.SingleSnapshotSheet sheet;
+        private final Instant createdAt;
+
+        int weight() {
+            return issues.size() + 1;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.model.TaskAssignment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Places one member's tasks back to back on their working calendar. Tasks are taken from a
+ * priority queue: in-progress work first, then by priority, then by due date. Each task fills
+ * the capacity left on the current day before moving on. The timeline cursor is a day plus the
+ * hours already used on it, and skipping whole days is one calendar lookup, so placing a task
+ * costs the same however long it is.
+ */
+final class TaskScheduleEngine {
+
+    private static final Comparator<Job> ORDER = Comparator
+            .comparingInt((Job job) -> job.inProgress ? 0 : 1)
+            .thenComparingInt(job -> job.priorityRank)
+            .thenComparingLong(job -> job.dueDay)
+            .thenComparingLong(job -> job.sequence);
+
+    private TaskScheduleEngine() {
+    }
+
+    static List<Placement> schedule(List<Job> jobs, LocalDate today, double dailyCapacity, WorkingCalendar calendar) {
+        List<Placement> placements = new ArrayList<>(jobs.size());
+        if (jobs.isEmpty()) {
+            return placements;
+        }
+        if (dailyCapacity <= 0) {
+            for (Job job : jobs) {
+                placements.add(new Placement(job, null, null));
+            }
+            return placements;
+        }
+
+        PriorityQueue<Job> queue = new PriorityQueue<>(jobs.size(), ORDER);
+        queue.addAll(jobs);
+
+        long day = calendar.nextWorkingDay(today.toEpochDay());
+        double used = 0;
+        while (!queue.isEmpty()) {
+            Job job = queue.poll();
+            if (used >= dailyCapacity) {
+                day = calendar.nextWorkingDay(day + 1);
+                used = 0;
+            }
+            long start = day;
+            double room = dailyCapacity - used;
+            if (job.hours <= room) {
+                used += job.hours;
+            } else {
+                double overflow = job.hours - room;
+                long moreDays = (long) Math.ceil(overflow / dailyCapacity);
+                day = calendar.nthWorkingDay(day + 1, moreDays);
+                used = overflow - (moreDays - 1) * dailyCapacity;
+            }
+            placements.add(new Placement(job, LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(day)));
+        }
+        return placements;
+    }
+
+    static final class Job {
+        final TaskAssignment assignment;
+        final double hours;
+        final boolean inProgress;
+        final int priorityRank;
+        final long dueDay;
+        final long sequence;
+
+        Job(TaskAssignment assignment, double hours, boolean inProgress, int priorityRank, LocalDate dueDate, long sequence) {
+            this.assignment = assignment;
+            this.hours = hours;
+            this.inProgress = inProgress;
+            this.priorityRank = priorityRank;
+            this.dueDay = dueDate != null ? dueDate.toEpochDay() : Long.MAX_VALUE;
+            this.sequence = sequence;
+        }
+    }
+
+    static final class Placement {
+        final Job job;
+        final LocalDate start;
+        final LocalDate end;
+
+        Placement(Job job, LocalDate start, LocalDate end) {
+            this.job = job;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.paytm.jiradashboard.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable working-day calendar. Days inside the window are one bit each in a long[], with
+ * weekends, holidays and leave cleared, so counting working days in a range is a popcount over
+ * the covered words. Days outside the window follow the weekly pattern alone. Days after
+ * lastWorkingDay never count, e.g. a contractor's end date.
+ */
+public final class WorkingCalendar {
+
+    private final long windowStart;
+    private final int windowDays;
+    private final long[] words;
+    private final boolean[] weekdayWorks; // Indexed by DayOfWeek.ordinal()
+    private final int workingDaysPerWeek;
+    private final long lastWorkingDay;
+
+    private WorkingCalendar(long windowStart, int windowDays, long[] words, boolean[] weekdayWorks, long lastWorkingDay) {
+        this.windowStart = windowStart;
+        this.windowDays = windowDays;
+        this.words = words;
+        this.weekdayWorks = weekdayWorks;
+        int perWeek = 0;
+        for (boolean works : weekdayWorks) {
+            if (works) perWeek++;
+        }
+        if (perWeek == 0) {
+            throw new IllegalArgumentException("A working calendar needs at least one working weekday");
+        }
+        this.workingDaysPerWeek = perWeek;
+        this.lastWorkingDay = lastWorkingDay;
+    }
+
+    /**
+     * Calendar over [windowStart, windowStart + windowDays) where every day except the given
+     * weekend days is working
+     */
+    static WorkingCalendar weekly(LocalDate windowStart, int windowDays, Collection<DayOfWeek> weekend) {
+        boolean[] weekdayWorks = new boolean[7];
+        Arrays.fill(weekdayWorks, true);
+        for (DayOfWeek day : weekend) {
+            weekdayWorks[day.ordinal()] = false;
+        }
+        long start = windowStart.toEpochDay();
+        long[] words = new long[(windowDays + 63) >>> 6];
+        for (int i = 0; i < windowDays; i++) {
+            if (weekdayWorks[dayOfWeekIndex(start + i)]) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return new WorkingCalendar(start, windowDays, words, weekdayWorks, Long.MAX_VALUE);
+    }
+
+    /**
+     * Copy of this calendar with each inclusive [from, to] range marked as non-working
+     */
+    WorkingCalendar withoutRanges(long[] fromDays, long[] toDays) {
+        long[] copy = words.clone();
+        for (int i = 0; i < fromDays.length; i++) {
+            clearRange(copy, fromDays[i] - windowStart, toDays[i] - windowStart);
+        }
+        return new WorkingCalendar(windowStart, windowDays, copy, weekdayWorks, lastWorkingDay);
+    }
+
+    /**
+     * Copy of this calendar with no working days after the given date
+     */
+    WorkingCalendar endingOn(LocalDate lastDay) {
+        return new WorkingCalendar(windowStart, windowDays, words, weekdayWorks,
+                Math.min(lastWorkingDay, lastDay.toEpochDay()));
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return isWorkingDay(date.toEpochDay());
+    }
+
+    public boolean isWorkingDay(long epochDay) {
+        if (epochDay > lastWorkingDay) {
+            return false;
+        }
+        long offset = epochDay - windowStart;
+        if (offset >= 0 && offset < windowDays) {
+            return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+        }
+        return weekdayWorks[dayOfWeekIndex(epochDay)];
+    }
+
+    /**
+     * Working days in the inclusive range, or 0 when to is before from
+     */
+    public int countWorkingDays(LocalDate from, LocalDate to) {
+        return countWorkingDays(from.toEpochDay(), to.toEpochDay());
+    }
+
+    public int countWorkingDays(long fromDay, long toDay) {
+        toDay = Math.min(toDay, lastWorkingDay);
+        if (toDay < fromDay) {
+            return 0;
+        }
+        long windowEnd = windowStart + windowDays - 1;
+        int count = 0;
+        // Portion before the window
+        if (fromDay < windowStart) {
+            count += countWeekly(fromDay, Math.min(toDay, windowStart - 1));
+        }
+        // Portion inside the window
+        long inFrom = Math.max(fromDay, windowStart);
+        long inTo = Math.min(toDay, windowEnd);
+        if (inFrom <= inTo) {
+            count += popcount(inFrom - windowStart, inTo - windowStart);
+        }
+        // Portion after the window
+        if (toDay > windowEnd) {
+            count += countWeekly(Math.max(fromDay, windowEnd + 1), toDay);
+        }
+        return count;
+    }
+
+    /**
+     * Working hours available in the inclusive range at the given hours per working day
+     */
+    public double capacityHours(LocalDate from, LocalDate to, double dailyCapacity) {
+        return countWorkingDays(from, to) * dailyCapacity;
+    }
+
+    /**
+     * Date on which the given number of working days after the start date is used up; the
+     * start date itself is not counted, so adding 0 returns the start date
+     */
+    public LocalDate addWorkingDays(LocalDate start, int workingDays) {
+        if (workingDays <= 0) {
+            return start;
+        }
+        return LocalDate.ofEpochDay(nthWorkingDay(start.toEpochDay() + 1, workingDays));
+    }
+
+    /**
+     * First working day on or after the given day
+     */
+    public long nextWorkingDay(long epochDay) {
+        return nthWorkingDay(epochDay, 1);
+    }
+
+    /**
+     * The n-th working day counting from fromDay inclusive. When the calendar ends before that,
+     * returns the day after its last working day.
+     */
+    long nthWorkingDay(long fromDay, long n) {
+        if (n <= 0) {
+            return fromDay;
+        }
+        long day = fromDay;
+        long remaining = n;
+        long windowEnd = windowStart + windowDays - 1;
+
+        // Before the window, step through the weekly pattern
+        while (day < windowStart && remaining > 0) {
+            if (weekdayWorks[dayOfWeekIndex(day)] && remaining-- == 1) {
+                return limit(day);
+            }
+            day++;
+        }
+
+        // Inside the window, skip whole words by popcount and pick the bit within the last one
+        if (day <= windowEnd && remaining > 0) {
+            long offset = day - windowStart;
+            int wordIndex = (int) (offset >>> 6);
+            long word = words[wordIndex] & (-1L << offset);
+            while (true) {
+                int bits = Long.bitCount(word);
+                if (bits >= remaining) {
+                    for (long k = 1; k < remaining; k++) {
+                        word &= word - 1;
+                    }
+                    return limit(windowStart + ((long) wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                }
+                remaining -= bits;
+                if (++wordIndex == words.length) {
+                    break;
+                }
+                word = words[wordIndex];
+            }
+            day = windowEnd + 1;
+        }
+
+        // After the window, skip whole weeks and finish day by day
+        long weeks = (remaining - 1) / workingDaysPerWeek;
+        day += weeks * 7;
+        remaining -= weeks * workingDaysPerWeek;
+        while (true) {
+            if (weekdayWorks[dayOfWeekIndex(day)] && remaining-- == 1) {
+                return limit(day);
+            }
+            day++;
+        }
+    }
+
+    private long limit(long day) {
+        return day > lastWorkingDay ? lastWorkingDay + 1 : day;
+    }
+
+    private int popcount(long fromOffset, long toOffset) {
+        int fromWord = (int) (fromOffset >>> 6);
+        int toWord = (int) (toOffset >>> 6);
+        long fromMask = -1L << fromOffset;
+        long toMask = -1L >>> (63 - (toOffset & 63));
+        if (fromWord == toWord) {
+            return Long.bitCount(words[fromWord] & fromMask & toMask);
+        }
+        int count = Long.bitCount(words[fromWord] & fromMask);
+        for (int i = fromWord + 1; i < toWord; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[toWord] & toMask);
+    }
+
+    private int countWeekly(long fromDay, long toDay) {
+        long days = toDay - fromDay + 1;
+        long weeks = days / 7;
+        int count = (int) (weeks * workingDaysPerWeek);
+        for (long day = fromDay + weeks * 7; day <= toDay; day++) {
+            if (weekdayWorks[dayOfWeekIndex(day)]) count++;
+        }
+        return count;
+    }
+
+    private void clearRange(long[] target, long fromOffset, long toOffset) {
+        fromOffset = Math.max(fromOffset, 0);
+        toOffset = Math.min(toOffset, windowDays - 1L);
+        if (fromOffset > toOffset) {
+            return;
+        }
+        int fromWord = (int) (fromOffset >>> 6);
+        int toWord = (int) (toOffset >>> 6);
+        long fromMask = -1L << fromOffset;
+        long toMask = -1L >>> (63 - (toOffset & 63));
+        if (fromWord == toWord) {
+            target[fromWord] &= ~(fromMask & toMask);
+            return;
+        }
+        target[fromWord] &= ~fromMask;
+        for (int i = fromWord + 1; i < toWord; i++) {
+            target[i] = 0;
+        }
+        target[toWord] &= ~toMask;
+    }
+
+    /**
+     * DayOfWeek ordinal (Monday = 0) of an epoch day; 1970-01-01 was a Thursday
+     */
+    private static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+}
@@ -0,0 +1,37 @@
+package com.paytm.jiradashboard.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-working days for capacity planning, e.g.
+ * app.calendar.holidays=2026-01-26,2026-08-15
+ * app.calendar.team-holidays.Backend=2026-11-09
+ */
+@Component
+@ConfigurationProperties(prefix = "app.calendar")
+@Data
+public class WorkingCalendarProperties {
+
+    /**
+     * Weekly days off for everyone
+     */
+    private List<DayOfWeek> weekend = new ArrayList<>(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+    /**
+     * Public holidays for everyone, as ISO dates
+     */
+    private List<String> holidays = new ArrayList<>();
+
+    /**
+     * Extra holidays per team name (matched case-insensitively), as ISO dates
+     */
+    private Map<String, List<String>> teamHolidays = new LinkedHashMap<>();
+}
@@ -0,0 +1,164 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.event.TeamMembersChangedEvent;
+import com.paytm.jiradashboard.model.MemberLeave;
+import com.paytm.jiradashboard.model.TeamMember;
+import com.paytm.jiradashboard.repository.MemberLeaveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Working-day calendars for capacity planning. The base calendar clears weekends and public
+ * holidays. Team calendars also clear team holidays. Member calendars also clear the member's
+ * leave and everything after their end date. Calendars cover the previous year through two
+ * years ahead and are rebuilt when the year rolls over, leave changes or team members change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkingCalendarService {
+
+    private final WorkingCalendarProperties properties;
+    private final MemberLeaveRepository memberLeaveRepository;
+
+    private volatile Calendars calendars;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCalendars() {
+        current();
+    }
+
+    @EventListener
+    public void onTeamMembersChanged(TeamMembersChangedEvent event) {
+        current().members.clear();
+    }
+
+    /**
+     * Calendar with weekends and public holidays only, for work not tied to a known member
+     */
+    public WorkingCalendar defaultCalendar() {
+        return current().base;
+    }
+
+    public WorkingCalendar teamCalendar(String team) {
+        Calendars current = current();
+        if (team == null) {
+            return current.base;
+        }
+        return current.teams.getOrDefault(team.toLowerCase(Locale.ROOT), current.base);
+    }
+
+    /**
+     * The member's team calendar minus their leave and any days after their end date
+     */
+    public WorkingCalendar calendarFor(TeamMember member) {
+        Calendars current = current();
+        // Leave is stored against the exact member name, so look it up the same way
+        String cacheKey = member.getName() + "|" + member.getTeam() + "|" + member.getEndDate();
+        return current.members.computeIfAbsent(cacheKey, key -> {
+            WorkingCalendar calendar = teamCalendar(member.getTeam());
+            long[][] leave = current.leaveByMember.get(member.getName());
+            if (leave != null) {
+                calendar = calendar.withoutRanges(leave[0], leave[1]);
+            }
+            if (member.getEndDate() != null) {
+                calendar = calendar.endingOn(member.getEndDate());
+            }
+            return calendar;
+        });
+    }
+
+    public List<MemberLeave> getLeave(String memberName) {
+        return memberLeaveRepository.findByMemberNameOrderByStartDate(memberName);
+    }
+
+    public MemberLeave saveLeave(MemberLeave leave) {
+        if (leave.getStartDate() == null || leave.getEndDate() == null || leave.getEndDate().isBefore(leave.getStartDate())) {
+            throw new IllegalArgumentException("Leave needs a start date on or before its end date");
+        }
+        MemberLeave saved = memberLeaveRepository.save(leave);
+        calendars = build(LocalDate.now());
+        return saved;
+    }
+
+    public void deleteLeave(Long id) {
+        memberLeaveRepository.deleteById(id);
+        calendars = build(LocalDate.now());
+    }
+
+    private Calendars current() {
+        Calendars current = calendars;
+        LocalDate today = LocalDate.now();
+        if (current == null || current.year != today.getYear()) {
+            current = build(today);
+            calendars = current;
+        }
+        return current;
+    }
+
+    private Calendars build(LocalDate today) {
+        LocalDate windowStart = LocalDate.of(today.getYear() - 1, 1, 1);
+        int windowDays = (int) ChronoUnit.DAYS.between(windowStart, windowStart.plusYears(4));
+
+        WorkingCalendar base = withoutDates(WorkingCalendar.weekly(windowStart, windowDays, properties.getWeekend()),
+                properties.getHolidays());
+
+        Map<String, WorkingCalendar> teams = new HashMap<>();
+        properties.getTeamHolidays().forEach((team, dates) ->
+                teams.put(team.toLowerCase(Locale.ROOT), withoutDates(base, dates)));
+
+        Map<String, List<MemberLeave>> leaveByName = new HashMap<>();
+        for (MemberLeave leave : memberLeaveRepository.findAll()) {
+            if (leave.getStartDate() != null && leave.getEndDate() != null) {
+                leaveByName.computeIfAbsent(leave.getMemberName(), name -> new ArrayList<>())
+                        .add(leave);
+            }
+        }
+        Map<String, long[][]> leaveByMember = new HashMap<>(leaveByName.size() * 2);
+        leaveByName.forEach((name, leaves) -> {
+            long[] from = new long[leaves.size()];
+            long[] to = new long[leaves.size()];
+            for (int i = 0; i < leaves.size(); i++) {
+                from[i] = leaves.get(i).getStartDate().toEpochDay();
+                to[i] = leaves.get(i).getEndDate().toEpochDay();
+            }
+            leaveByMember.put(name, new long[][]{from, to});
+        });
+
+        log.info("Built working calendars from {}: {} holidays, {} team calendars, leave for {} members",
+                windowStart, properties.getHolidays().size(), teams.size(), leaveByMember.size());
+        return new Calendars(today.getYear(), base, teams, leaveByMember);
+    }
+
+    private static WorkingCalendar withoutDates(WorkingCalendar calendar, List<String> dates) {
+        long[] days = new long[dates.size()];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = LocalDate.parse(dates.get(i).trim()).toEpochDay();
+        }
+        return calendar.withoutRanges(days, days);
+    }
+
+    private static final class Calendars {
+        private final int year;
+        private final WorkingCalendar base;
+        private final Map<String, WorkingCalendar> teams;
+        private final Map<String, long[][]> leaveByMember;
+        private final Map<String, WorkingCalendar> members = new ConcurrentHashMap<>();
+
+        private Calendars(int year, WorkingCalendar base, Map<String, WorkingCalendar> teams,
+                          Map<String, long[][]> leaveByMember) {
+            this.year = year;
+            this.base = base;
+            this.teams = teams;
+            this.leaveByMember = leaveByMember;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.paytm.jiradashboard.service;
+
+import com.paytm.jiradashboard.model.TaskAssignment;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spreads each task's remaining hours evenly over the working days from its start date to its
+ * estimated completion date. Each task is an O(1) range update on a difference array indexed
+ * by epoch day, followed by one prefix sum. A parallel coverage array records which days have
+ * any task on them. Non-working days are masked out when reading, so averages run over covered
+ * working days only. Overload is checked in the same pass.
+ */
+final class WorkloadForecastEngine {
+
+    private WorkloadForecastEngine() {
+    }
+
+    /**
+     * Forecast for one member's tasks on their working calendar. Days after horizonEnd are
+     * dropped when it is non-null. A task without a start date starts today. A task whose
+     * whole range falls on days off lands on the next working day.
+     */
+    static Forecast forecast(List<TaskAssignment> tasks, LocalDate today, LocalDate horizonEnd, double dailyCapacity,
+                             WorkingCalendar calendar) {
+        int size = tasks.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        double[] hoursPerDay = new double[size];
+        int spread = 0;
+        long firstDay = Long.MAX_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        long todayDay = today.toEpochDay();
+        long horizonDay = horizonEnd != null ? horizonEnd.toEpochDay() : Long.MAX_VALUE;
+        boolean overloaded = false;
+
+        for (TaskAssignment task : tasks) {
+            if (task.getRemainingHours() == null || task.getEstimatedCompletionDate() == null) {
+                continue;
+            }
+            long completionDay = task.getEstimatedCompletionDate().toEpochDay();
+
+            // Overloaded when the hours left cannot fit in the working days up to the deadline
+            if (completionDay >= todayDay) {
+                int daysAvailable = calendar.countWorkingDays(todayDay, completionDay);
+                double requiredDailyHours = daysAvailable > 0 ? (double) task.getRemainingHours() / daysAvailable
+                        : task.getRemainingHours() > 0 ? Double.POSITIVE_INFINITY : 0;
+                overloaded |= requiredDailyHours > dailyCapacity;
+            }
+
+            long startDay = task.getStartDate() != null ? task.getStartDate().toEpochDay() : todayDay;
+            if (completionDay < startDay) {
+                continue;
+            }
+            int daysToComplete = calendar.countWorkingDays(startDay, completionDay);
+            if (daysToComplete == 0) {
+                startDay = calendar.nextWorkingDay(startDay);
+                completionDay = startDay;
+                daysToComplete = 1;
+            }
+            long endDay = Math.min(completionDay, horizonDay);
+            if (endDay < startDay) {
+                continue;
+            }
+            starts[spread] = startDay;
+            ends[spread] = endDay;
+            hoursPerDay[spread] = (double) task.getRemainingHours() / daysToComplete;
+            spread++;
+            firstDay = Math.min(firstDay, startDay);
+            lastDay = Math.max(lastDay, endDay);
+        }
+
+        if (spread == 0) {
+            return new Forecast(todayDay, new double[0], new int[0], overloaded, calendar);
+        }
+
+        int span = Math.toIntExact(lastDay - firstDay + 1);
+        double[] load = new double[span + 1];
+        int[] coverage = new int[span + 1];
+        for (int i = 0; i < spread; i++) {
+            int from = (int) (starts[i] - firstDay);
+            int to = (int) (ends[i] - firstDay) + 1;
+            load[from] += hoursPerDay[i];
+            load[to] -= hoursPerDay[i];
+            coverage[from]++;
+            coverage[to]--;
+        }
+        for (int day = 1; day < span; day++) {
+            load[day] += load[day - 1];
+            coverage[day] += coverage[day - 1];
+        }
+        return new Forecast(firstDay, load, coverage, overloaded, calendar);
+    }
+
+    static final class Forecast {
+
+        private final long firstDay;
+        private final double[] load;
+        private final int[] coverage;
+        private final boolean overloaded;
+        private final WorkingCalendar calendar;
+
+        private Forecast(long firstDay, double[] load, int[] coverage, boolean overloaded, WorkingCalendar calendar) {
+            this.firstDay = firstDay;
+            this.load = load;
+            this.coverage = coverage;
+            this.overloaded = overloaded;
+            this.calendar = calendar;
+        }
+
+        private boolean isCovered(int day) {
+            return coverage[day] > 0 && calendar.isWorkingDay(firstDay + day);
+        }
+
+        /**
+         * Hours per covered working day, in date order
+         */
+        Map<LocalDate, Double> toDailyMap() {
+            Map<LocalDate, Double> daily = new LinkedHashMap<>();
+            for (int day = 0; day < coverage.length - 1; day++) {
+                if (isCovered(day)) {
+                    daily.put(LocalDate.ofEpochDay(firstDay + day), load[day]);
+                }
+            }
+            return daily;
+        }
+
+        /**
+         * Mean hours over the working days that have at least one task, or 0 when none do
+         */
+        double averageLoad() {
+            double total = 0;
+            int coveredDays = 0;
+            for (int day = 0; day < coverage.length - 1; day++) {
+                if (isCovered(day)) {
+                    total += load[day];
+                    coveredDays++;
+                }
+            }
+            return coveredDays > 0 ? total / coveredDays : 0.0;
+        }
+
+        boolean isOverloaded() {
+            return overloaded;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.paytm.jiradashboard.service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal streaming .xlsx writer. Each row is serialized straight into the zip entry of its
+ * worksheet and then dropped, so memory does not grow with the sheet size. Strings are written
+ * inline rather than through a shared strings table for the same reason.
+ *
+ * Formatting mirrors GoogleSheetsIntegrationService.applySheetFormatting: a bold grey header
+ * row that is frozen, fixed widths for the first 15 columns, and green/red fills for Y/N cells.
+ */
+public class XlsxStreamWriter implements Closeable {
+
+    public static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final int STYLE_DEFAULT = 0;
+    private static final int STYLE_HEADER = 1;
+    private static final int STYLE_YES = 2;
+    private static final int STYLE_NO = 3;
+
+    private static final int FORMATTED_COLUMNS = 15;
+    private static final String COLUMN_WIDTH = "16.7"; // ~120px, as in createColumnWidthFormat
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final List<String> sheetNames = new ArrayList<>();
+    private final List<String> columnNames = new ArrayList<>();
+
+    private boolean sheetOpen;
+    private boolean statusColouring;
+    private int rowNumber;
+
+    private XlsxStreamWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    public static XlsxStreamWriter open(OutputStream out) {
+        return new XlsxStreamWriter(out);
+    }
+
+    /**
+     * Start a new worksheet; Y/N colouring applies to data rows when statusColouring is set
+     */
+    public void startSheet(String name, boolean statusColouring) throws IOException {
+        if (sheetOpen) {
+            endSheet();
+        }
+        sheetNames.add(sheetName(name));
+        this.statusColouring = statusColouring;
+        this.rowNumber = 0;
+        this.sheetOpen = true;
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetNames.size() + ".xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">");
+        writer.write("<sheetViews><sheetView workbookViewId=\"0\">");
+        writer.write("<pane ySplit=\"1\" topLeftCell=\"A2\" activePane=\"bottomLeft\" state=\"frozen\"/>");
+        writer.write("</sheetView></sheetViews>");
+        writer.write("<cols><col min=\"1\" max=\"" + FORMATTED_COLUMNS + "\" width=\"" + COLUMN_WIDTH + "\" customWidth=\"1\"/></cols>");
+        writer.write("<sheetData>");
+    }
+
+    /**
+     * Write the next row; the first row of each sheet is styled as the header
+     */
+    public void writeRow(List<?> row) throws IOException {
+        if (!sheetOpen) {
+            throw new IllegalStateException("startSheet must be called before writeRow");
+        }
+        rowNumber++;
+        boolean header = rowNumber == 1;
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(rowNumber));
+        writer.write("\">");
+        for (int i = 0; i < row.size(); i++) {
+            Object value = row.get(i);
+            if (value == null || "".equals(value)) {
+                if (header) {
+                    writeCellStart(i, STYLE_HEADER);
+                    writer.write("/>");
+                }
+                continue;
+            }
+            writeCell(i, value, header ? STYLE_HEADER : dataStyle(value));
+        }
+        writer.write("</row>");
+    }
+
+    /**
+     * Row callback for generators that cannot throw checked exceptions
+     */
+    public void writeRowUnchecked(List<?> row) {
+        try {
+            writeRow(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int dataStyle(Object value) {
+        if (!statusColouring) {
+            return STYLE_DEFAULT;
+        }
+        if ("Y".equals(value)) {
+            return STYLE_YES;
+        }
+        if ("N".equals(value)) {
+            return STYLE_NO;
+        }
+        return STYLE_DEFAULT;
+    }
+
+    private void writeCell(int column, Object value, int style) throws IOException {
+        writeCellStart(column, style);
+        if (value instanceof Number number && isFinite(number)) {
+            writer.write(" t=\"n\"><v>");
+            writer.write(number.toString());
+            writer.write("</v></c>");
+        } else if (value instanceof Boolean bool) {
+            writer.write(" t=\"b\"><v>");
+            writer.write(bool ? "1" : "0");
+            writer.write("</v></c>");
+        } else {
+            writer.write(" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+            writeEscaped(value.toString());
+            writer.write("</t></is></c>");
+        }
+    }
+
+    private void writeCellStart(int column, int style) throws IOException {
+        writer.write("<c r=\"");
+        writer.write(columnName(column));
+        writer.write(Integer.toString(rowNumber));
+        writer.write('"');
+        if (style != STYLE_DEFAULT) {
+            writer.write(" s=\"");
+            writer.write(Integer.toString(style));
+            writer.write('"');
+        }
+    }
+
+    private static boolean isFinite(Number number) {
+        return !(number instanceof Double d && (d.isNaN() || d.isInfinite()))
+                && !(number instanceof Float f && (f.isNaN() || f.isInfinite()));
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    // Control characters other than tab and line breaks are not allowed in XML
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private String columnName(int index) {
+        while (columnNames.size() <= index) {
+            int number = columnNames.size() + 1;
+            StringBuilder name = new StringBuilder();
+            while (number > 0) {
+                number--;
+                name.insert(0, (char) ('A' + number % 26));
+                number /= 26;
+            }
+            columnNames.add(name.toString());
+        }
+        return columnNames.get(index);
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+        sheetOpen = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (sheetNames.isEmpty()) {
+            startSheet("Sheet1", false);
+        }
+        if (sheetOpen) {
+            endSheet();
+        }
+        writeEntry("[Content_Types].xml", contentTypes());
+        writeEntry("_rels/.rels",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                        + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                        + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                        + "</Relationships>");
+        writeEntry("xl/workbook.xml", workbook());
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRelationships());
+        writeEntry("xl/styles.xml", STYLES);
+        writer.flush();
+        zip.finish();
+        zip.close();
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private String contentTypes() {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String workbook() {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" ")
+                .append("xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"><sheets>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            xml.append("<sheet name=\"").append(escapeAttribute(sheetNames.get(i - 1)))
+                    .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRelationships() {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            xml.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                    .append(i).append(".xml\"/>");
+        }
+        int stylesId = sheetNames.size() + 1;
+        xml.append("<Relationship Id=\"rId").append(stylesId)
+                .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles\" Target=\"styles.xml\"/>");
+        return xml.append("</Relationships>").toString();
+    }
+
+    /**
+     * Excel sheet names are limited to 31 characters, must be unique and cannot contain []:*?/\
+     */
+    private String sheetName(String name) {
+        String cleaned = (name == null || name.isBlank() ? "Sheet" : name).replaceAll("[\\[\\]:*?/\\\\]", "_");
+        if (cleaned.length() > 31) {
+            cleaned = cleaned.substring(0, 31);
+        }
+        String unique = cleaned;
+        for (int suffix = 2; containsIgnoreCase(sheetNames, unique); suffix++) {
+            String tail = " (" + suffix + ")";
+            unique = cleaned.substring(0, Math.min(cleaned.length(), 31 - tail.length())) + tail;
+        }
+        return unique;
+    }
+
+    private static boolean containsIgnoreCase(List<String> names, String name) {
+        return names.stream().anyMatch(existing -> existing.equalsIgnoreCase(name));
+    }
+
+    private static String escapeAttribute(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    // Fonts: 0 default, 1 bold. Fills: 0/1 reserved, 2 header grey, 3 green, 4 red.
+    // Cell formats: 0 default, 1 header, 2 Y (green), 3 N (red).
+    private static final String STYLES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<styleSheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+            + "<fonts count=\"2\">"
+            + "<font><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+            + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+            + "</fonts>"
+            + "<fills count=\"5\">"
+            + "<fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill>"
+            + "<fill><patternFill patternType=\"solid\"><fgColor rgb=\"FFE6E6E6\"/><bgColor indexed=\"64\"/></patternFill></fill>"
+            + "<fill><patternFill patternType=\"solid\"><fgColor rgb=\"FFCCFFCC\"/><bgColor indexed=\"64\"/></patternFill></fill>"
+            + "<fill><patternFill patternType=\"solid\"><fgColor rgb=\"FFFFCCCC\"/><bgColor indexed=\"64\"/></patternFill></fill>"
+            + "</fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"4\">"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"2\" borderId=\"0\" xfId=\"0\" applyFont=\"1\" applyFill=\"1\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"3\" borderId=\"0\" xfId=\"0\" applyFill=\"1\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"4\" borderId=\"0\" xfId=\"0\" applyFill=\"1\"/>"
+            + "</cellXfs>"
+            + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+            + "</styleSheet>";
+}